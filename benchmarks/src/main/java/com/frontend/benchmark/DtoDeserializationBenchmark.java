@@ -0,0 +1,61 @@
+package com.frontend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.domainDto.response.AvailableCarRepairDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import com.frontend.domainDto.response.GarageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the array responses the clients receive, the way the RestTemplate message converter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoDeserializationBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int rows;
+    private ObjectMapper objectMapper;
+    private byte[] carRepairs;
+    private byte[] availableCarRepairs;
+    private byte[] garages;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Payloads.objectMapper();
+        carRepairs = objectMapper.writeValueAsBytes(Payloads.carRepairs(rows));
+        availableCarRepairs = objectMapper.writeValueAsBytes(Payloads.availableCarRepairs(rows));
+        garages = objectMapper.writeValueAsBytes(Payloads.garages(rows));
+    }
+
+    @Benchmark
+    public CarRepairDto[] carRepairs() throws IOException {
+        return objectMapper.readValue(carRepairs, CarRepairDto[].class);
+    }
+
+    @Benchmark
+    public AvailableCarRepairDto[] availableCarRepairs() throws IOException {
+        return objectMapper.readValue(availableCarRepairs, AvailableCarRepairDto[].class);
+    }
+
+    @Benchmark
+    public GarageDto[] garages() throws IOException {
+        return objectMapper.readValue(garages, GarageDto[].class);
+    }
+}
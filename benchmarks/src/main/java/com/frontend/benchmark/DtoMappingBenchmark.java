@@ -0,0 +1,58 @@
+package com.frontend.benchmark;
+
+import com.frontend.domainDto.request.CarCreateDto;
+import com.frontend.domainDto.response.CarDto;
+import com.frontend.domainDto.response.GarageDto;
+import com.frontend.mapper.CarMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps and copies the DTOs the views work on after a response was read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int rows;
+    private final CarMapper carMapper = new CarMapper();
+    private List<CarDto> cars;
+    private List<GarageDto> garages;
+
+    @Setup
+    public void setUp() {
+        cars = Payloads.cars(rows);
+        garages = Payloads.garages(rows);
+    }
+
+    @Benchmark
+    public List<CarCreateDto> mapToCarCreateDtoList() {
+        return carMapper.mapToCarCreateDtoList(cars);
+    }
+
+    @Benchmark
+    public List<CarDto> copyCars() {
+        return cars.stream().map(CarDto::new).toList();
+    }
+
+    @Benchmark
+    public List<GarageDto> copyGarages() {
+        return garages.stream().map(GarageDto::new).toList();
+    }
+}
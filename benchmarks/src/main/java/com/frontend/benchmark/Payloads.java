@@ -0,0 +1,86 @@
+package com.frontend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.domainDto.response.AvailableCarRepairDto;
+import com.frontend.domainDto.response.BookingDto;
+import com.frontend.domainDto.response.CarDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import com.frontend.domainDto.response.GarageDto;
+import com.frontend.domainDto.response.GarageWorkTimeDto;
+import com.frontend.domainDto.response.MakeDto;
+import com.frontend.domainDto.response.ModelDto;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Deterministic DTOs shaped like the backend responses, generated for a given number of rows.
+ */
+final class Payloads {
+    private static final String[] MAKES = {"Audi", "BMW", "Ford", "Opel", "Toyota", "Volkswagen"};
+    private static final String[] STATUSES = {"AVAILABLE", "BOOKED", "IN_PROGRESS", "COMPLETED"};
+    private static final LocalDate FIRST_DATE = LocalDate.of(2023, 3, 1);
+
+    private Payloads() {
+    }
+
+    /**
+     * Same mapper the RestTemplate message converter builds, so payloads are read with production settings.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static List<CarRepairDto> carRepairs(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> new CarRepairDto((long) i, "Service " + i, "Description of service number " + i,
+                        BigDecimal.valueOf(100 + i % 900, 2), 30 + i % 240, car(i), booking(i), STATUSES[i % STATUSES.length]))
+                .toList();
+    }
+
+    static List<AvailableCarRepairDto> availableCarRepairs(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> new AvailableCarRepairDto((long) i, "Service " + i, "Description of service number " + i,
+                        BigDecimal.valueOf(100 + i % 900, 2), 30 + i % 240, MAKES[i % MAKES.length], BigDecimal.valueOf(12, 1)))
+                .toList();
+    }
+
+    static List<GarageDto> garages(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(Payloads::garage)
+                .toList();
+    }
+
+    static List<CarDto> cars(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(Payloads::car)
+                .toList();
+    }
+
+    static CarDto car(int i) {
+        MakeDto make = new MakeDto((long) i % MAKES.length, MAKES[i % MAKES.length]);
+        ModelDto model = new ModelDto((long) i, "Model " + i % 50, make, i % 2 == 0 ? "Sedan" : "Hatchback");
+        return new CarDto((long) i, model, 1995 + i % 28, i % 3 == 0 ? "Diesel" : "Petrol");
+    }
+
+    static GarageDto garage(int i) {
+        List<GarageWorkTimeDto> workTimes = LongStream.range(0, DayOfWeek.values().length)
+                .mapToObj(day -> new GarageWorkTimeDto(i * 7L + day, DayOfWeek.of((int) day + 1).name(), LocalTime.of(8, 0), LocalTime.of(18, 0)))
+                .toList();
+        return new GarageDto((long) i, "Garage " + i, "Street " + i + ", City " + i % 20, workTimes);
+    }
+
+    private static BookingDto booking(int i) {
+        LocalDate date = FIRST_DATE.plusDays(i % 365);
+        LocalTime startHour = LocalTime.of(8 + i % 8, 0);
+        return new BookingDto((long) i, STATUSES[i % STATUSES.length], date, startHour, startHour.plusHours(2),
+                date.minusDays(7).atStartOfDay().plusHours(10), BigDecimal.valueOf(2500 + i, 2), List.of((long) i, i + 1L),
+                garage(i % 20));
+    }
+}
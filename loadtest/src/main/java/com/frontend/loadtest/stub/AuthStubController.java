@@ -0,0 +1,65 @@
+package com.frontend.loadtest.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.domainDto.request.AuthenticationUserRequest;
+import com.frontend.domainDto.request.RegisterUserDto;
+import com.frontend.domainDto.response.JwtTokenResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Issues unsigned tokens carrying the subject and expiry, which is all the frontend reads from them.
+ */
+@RestController
+@RequestMapping("/v1/auth")
+@RequiredArgsConstructor
+public class AuthStubController {
+    private static final String HEADER = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+    private final StubData stubData;
+    private final StubConfig stubConfig;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/authenticate")
+    public ResponseEntity<JwtTokenResponse> authenticate(@RequestBody AuthenticationUserRequest request) throws JsonProcessingException {
+        if (!stubData.passwordMatches(stubData.user(request.getUsername()), request.getPassword())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(new JwtTokenResponse(token(request.getUsername())));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtTokenResponse> refresh(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) throws IOException {
+        String[] parts = authorization.replaceFirst("^Bearer ", "").split("\\.");
+        if (parts.length < 2) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+        return ResponseEntity.ok(new JwtTokenResponse(token(claims.path("sub").asText())));
+    }
+
+    @PostMapping("/register")
+    public ResponseEntity<Void> register(@RequestBody RegisterUserDto registerUserDto) {
+        return stubData.register(registerUserDto) ? ResponseEntity.ok().build() : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    private String token(String username) throws JsonProcessingException {
+        Map<String, Object> claims = Map.of("sub", username, "exp", Instant.now().plus(stubConfig.getTokenLifetime()).getEpochSecond());
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(claims));
+        return HEADER + "." + payload + ".";
+    }
+}
@@ -0,0 +1,64 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.response.CarRepairDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/visits")
+@RequiredArgsConstructor
+public class BookingStubController {
+    private final StubData stubData;
+
+    @GetMapping(value = "/available-times", params = "garage-id")
+    public List<LocalTime> getAvailableTimes(@RequestParam LocalDate date, @RequestParam(name = "repair-duration") int repairDuration,
+                                             @RequestParam(name = "garage-id") Long garageId) {
+        return stubData.availableTimes(date, repairDuration, garageId);
+    }
+
+    @GetMapping(value = "/available-times", params = "car-service-id")
+    public List<LocalTime> getAvailableTimesForReschedule(@RequestParam LocalDate date, @RequestParam(name = "car-service-id") Long carServiceId) {
+        return stubData.carRepair(carServiceId)
+                .map(carRepair -> stubData.availableTimes(date, durationOf(carRepair), carRepair.getBookingDto().getGarageDto().getId()))
+                .orElse(List.of());
+    }
+
+    @GetMapping("/available-times/calendar")
+    public Map<LocalDate, List<LocalTime>> getAvailableTimesCalendar(@RequestParam LocalDate from, @RequestParam LocalDate to,
+                                                                     @RequestParam(name = "repair-duration") int repairDuration,
+                                                                     @RequestParam(name = "garage-id") Long garageId) {
+        return stubData.availableTimes(from, to, repairDuration, garageId);
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> book(@RequestParam(name = "service-id") List<Long> serviceIds, @RequestParam LocalDate date,
+                                     @RequestParam(name = "start-hour") LocalTime startHour, @RequestParam(name = "garage-id") Long garageId,
+                                     @RequestParam(name = "car-id") Long carId, @RequestParam(name = "repair-duration") int repairDuration) {
+        return stubData.book(serviceIds, date, startHour, garageId, carId, repairDuration)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @PutMapping("/{bookingId}")
+    public ResponseEntity<Void> reschedule(@PathVariable Long bookingId, @RequestParam LocalDate date,
+                                           @RequestParam(name = "start-hour") LocalTime startHour) {
+        return stubData.reschedule(bookingId, date, startHour) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    private int durationOf(CarRepairDto carRepair) {
+        return carRepair.getBookingDto().getEndHour().toSecondOfDay() / 60 - carRepair.getBookingDto().getStartHour().toSecondOfDay() / 60;
+    }
+}
@@ -0,0 +1,54 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.response.AvailableCarRepairDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Offers of a garage and the car services booked from them share one endpoint on the backend.
+ */
+@RestController
+@RequestMapping("/v1/selected-offer")
+@RequiredArgsConstructor
+public class CarRepairStubController {
+    private final StubData stubData;
+
+    @GetMapping("/{garageId}")
+    public List<AvailableCarRepairDto> getOffers(@PathVariable Long garageId) {
+        return stubData.offers(garageId);
+    }
+
+    @GetMapping
+    public List<CarRepairDto> getCarRepairs(@RequestParam String username) {
+        return stubData.carRepairs(username, null);
+    }
+
+    @GetMapping("/page")
+    public List<CarRepairDto> getCarRepairsPage(@RequestParam String username, @RequestParam(required = false) String status,
+                                                @RequestParam int page, @RequestParam int size, @RequestParam(required = false) String sort) {
+        return stubData.carRepairsPage(username, status, page, size, sort);
+    }
+
+    @GetMapping("/count")
+    public long countCarRepairs(@RequestParam(required = false) String username, @RequestParam(required = false) String status,
+                                @RequestParam(name = "vehicle-id", required = false) Long vehicleId) {
+        if (vehicleId != null) {
+            return stubData.countCarRepairsOfCar(vehicleId);
+        }
+        return stubData.carRepairs(username, status).size();
+    }
+
+    @DeleteMapping("/{carRepairId}")
+    public ResponseEntity<Void> deleteCarRepair(@PathVariable Long carRepairId) {
+        return stubData.deleteCarRepair(carRepairId) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.frontend.loadtest.stub;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delays every request by a latency between the configured bounds and fails a configured share of them with 503.
+ * The n-th request always gets the same latency and outcome for a given seed.
+ */
+@Component
+@RequiredArgsConstructor
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+    private final StubConfig stubConfig;
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(stubConfig.getSeed() ^ requestCounter.incrementAndGet());
+        long minMillis = stubConfig.getLatencyMin().toMillis();
+        long maxMillis = stubConfig.getLatencyMax().toMillis();
+        Thread.sleep(maxMillis > minMillis ? random.nextLong(minMillis, maxMillis + 1) : minMillis);
+        if (random.nextDouble() < stubConfig.getErrorRate()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.response.ForecastDto;
+import com.frontend.domainDto.response.GarageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class GarageStubController {
+    private final StubData stubData;
+
+    @GetMapping("/v1/garages")
+    public List<GarageDto> getGarages() {
+        return stubData.getGarages();
+    }
+
+    @GetMapping("/v1/weather-api")
+    public ForecastDto getForecast(@RequestParam String city, @RequestParam LocalDate date) {
+        int temperature = Math.floorMod(city.hashCode() + date.getDayOfYear(), 25);
+        return new ForecastDto(date, "d000", stubData.forecastSymbol(city, date), temperature + 5, temperature - 3, 10 + temperature % 7, city);
+    }
+}
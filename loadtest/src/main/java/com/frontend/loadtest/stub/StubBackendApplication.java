@@ -0,0 +1,16 @@
+package com.frontend.loadtest.stub;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Deterministic stand-in for the backend, serving every /v1 endpoint the frontend calls with generated data and
+ * configurable latency and error injection.
+ */
+@SpringBootApplication
+public class StubBackendApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(StubBackendApplication.class, args);
+    }
+}
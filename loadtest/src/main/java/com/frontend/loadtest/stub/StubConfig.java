@@ -0,0 +1,28 @@
+package com.frontend.loadtest.stub;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class StubConfig {
+    @Value("${stub.seed}")
+    private long seed;
+    @Value("${stub.latency.min}")
+    private Duration latencyMin;
+    @Value("${stub.latency.max}")
+    private Duration latencyMax;
+    @Value("${stub.error-rate}")
+    private double errorRate;
+    @Value("${stub.garages}")
+    private int garages;
+    @Value("${stub.completed-services}")
+    private int completedServices;
+    @Value("${stub.password}")
+    private String password;
+    @Value("${stub.token-lifetime}")
+    private Duration tokenLifetime;
+}
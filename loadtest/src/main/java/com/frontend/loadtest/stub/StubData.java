@@ -0,0 +1,360 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.request.CarCreateDto;
+import com.frontend.domainDto.request.RegisterUserDto;
+import com.frontend.domainDto.request.UpdateUserDto;
+import com.frontend.domainDto.response.AvailableCarRepairDto;
+import com.frontend.domainDto.response.BookingDto;
+import com.frontend.domainDto.response.CarDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import com.frontend.domainDto.response.GarageDto;
+import com.frontend.domainDto.response.GarageWorkTimeDto;
+import com.frontend.domainDto.response.MakeDto;
+import com.frontend.domainDto.response.ModelDto;
+import com.frontend.domainDto.response.UserDto;
+import lombok.Getter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Generated backend state. Garages, offers and the car catalogue are fixed for a seed, every user is created on first
+ * use with a few cars, a history of completed services and some upcoming ones, so any username works for logging in.
+ */
+@Component
+public class StubData {
+    private static final List<String> SERVICE_NAMES = List.of("Oil change", "Brake pads replacement", "Tire change", "Air conditioning service",
+            "Wheel alignment", "Battery replacement", "Timing belt replacement", "Diagnostics");
+    private static final Map<String, List<String>> MODELS = new LinkedHashMap<>();
+    private static final int SLOT_MINUTES = 30;
+
+    static {
+        MODELS.put("Audi", List.of("A3", "A4", "A6", "Q5"));
+        MODELS.put("BMW", List.of("3 Series", "5 Series", "X3", "X5"));
+        MODELS.put("Ford", List.of("Fiesta", "Focus", "Mondeo", "Kuga"));
+        MODELS.put("Skoda", List.of("Fabia", "Octavia", "Superb", "Kodiaq"));
+        MODELS.put("Toyota", List.of("Yaris", "Corolla", "Camry", "RAV4"));
+        MODELS.put("Volkswagen", List.of("Polo", "Golf", "Passat", "Tiguan"));
+    }
+
+    private final StubConfig stubConfig;
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final String defaultPasswordHash;
+    private final AtomicLong idSequence = new AtomicLong(1000);
+    private final Map<String, StubUser> users = new ConcurrentHashMap<>();
+    private final Map<Long, String> carOwners = new ConcurrentHashMap<>();
+    private final Map<Long, String> carRepairOwners = new ConcurrentHashMap<>();
+    @Getter
+    private final List<GarageDto> garages;
+    private final Map<Long, List<AvailableCarRepairDto>> offers = new LinkedHashMap<>();
+    @Getter
+    private final List<MakeDto> makes = new ArrayList<>();
+    private final Map<String, List<ModelDto>> models = new LinkedHashMap<>();
+
+    public StubData(StubConfig stubConfig) {
+        this.stubConfig = stubConfig;
+        this.defaultPasswordHash = passwordEncoder.encode(stubConfig.getPassword());
+        SplittableRandom random = new SplittableRandom(stubConfig.getSeed());
+        this.garages = LongStream.rangeClosed(1, stubConfig.getGarages())
+                .mapToObj(garageId -> createGarage(garageId, random))
+                .toList();
+        long makeId = 1;
+        long modelId = 1;
+        for (Map.Entry<String, List<String>> make : MODELS.entrySet()) {
+            MakeDto makeDto = new MakeDto(makeId++, make.getKey());
+            makes.add(makeDto);
+            List<ModelDto> makeModels = new ArrayList<>();
+            for (String model : make.getValue()) {
+                makeModels.add(new ModelDto(modelId++, model, makeDto, modelId % 2 == 0 ? "Sedan" : "SUV"));
+            }
+            models.put(make.getKey(), makeModels);
+        }
+    }
+
+    public StubUser user(String username) {
+        return users.computeIfAbsent(username, this::createUser);
+    }
+
+    public Optional<StubUser> existingUser(String username) {
+        return Optional.ofNullable(users.get(username));
+    }
+
+    public boolean register(RegisterUserDto registerUserDto) {
+        UserDto userDto = new UserDto(idSequence.incrementAndGet(), registerUserDto.getFirstName(), registerUserDto.getLastName(),
+                registerUserDto.getEmail(), registerUserDto.getPhoneNumber(), registerUserDto.getUsername(), LocalDateTime.now());
+        return users.putIfAbsent(registerUserDto.getUsername(), new StubUser(userDto, passwordEncoder.encode(registerUserDto.getPassword()))) == null;
+    }
+
+    public boolean passwordMatches(StubUser user, String password) {
+        if (defaultPasswordHash.equals(user.getPasswordHash())) {
+            return stubConfig.getPassword().equals(password);
+        }
+        return password != null && passwordEncoder.matches(password, user.getPasswordHash());
+    }
+
+    /**
+     * Applies the update and returns the updated user, or an empty result if the current password did not match.
+     */
+    public Optional<UserDto> update(UpdateUserDto updateUserDto) {
+        StubUser stubUser = user(updateUserDto.getUsername());
+        if (updateUserDto.getCurrentPassword() != null) {
+            if (!passwordMatches(stubUser, updateUserDto.getCurrentPassword())) {
+                return Optional.empty();
+            }
+            stubUser.setPasswordHash(updateUserDto.getPassword());
+        }
+        UserDto current = stubUser.getUser();
+        UserDto updated = new UserDto(current.getId(), updateUserDto.getFirstName(), updateUserDto.getLastName(), updateUserDto.getEmail(),
+                updateUserDto.getPhoneNumber(), current.getUsername(), current.getCreatedDate());
+        stubUser.setUser(updated);
+        return Optional.of(updated);
+    }
+
+    public Optional<GarageDto> garage(Long garageId) {
+        return garages.stream().filter(garage -> garage.getId().equals(garageId)).findFirst();
+    }
+
+    public List<AvailableCarRepairDto> offers(Long garageId) {
+        return offers.getOrDefault(garageId, List.of());
+    }
+
+    public List<ModelDto> models(String make) {
+        return models.getOrDefault(make, List.of());
+    }
+
+    public void addCar(String username, CarCreateDto carCreateDto) {
+        addCar(username, carCreateDto, idSequence.incrementAndGet());
+    }
+
+    public boolean updateCar(CarCreateDto carCreateDto) {
+        String username = carOwners.get(carCreateDto.getId());
+        if (username == null) {
+            return false;
+        }
+        addCar(username, carCreateDto, carCreateDto.getId());
+        return true;
+    }
+
+    public boolean deleteCar(Long carId) {
+        String username = carOwners.remove(carId);
+        return username != null && user(username).getCars().remove(carId) != null;
+    }
+
+    public long countCarRepairsOfCar(Long carId) {
+        String username = carOwners.get(carId);
+        if (username == null) {
+            return 0;
+        }
+        return user(username).getCarRepairs().values().stream()
+                .filter(carRepair -> carId.equals(carRepair.getCarDto().getVehicleId()))
+                .count();
+    }
+
+    public List<CarRepairDto> carRepairs(String username, String status) {
+        LocalDateTime now = LocalDateTime.now();
+        return user(username).getCarRepairs().values().stream()
+                .filter(carRepair -> status == null || isCompleted(carRepair, now) == "completed".equalsIgnoreCase(status))
+                .sorted(Comparator.comparing(CarRepairDto::getId))
+                .toList();
+    }
+
+    public List<CarRepairDto> carRepairsPage(String username, String status, int page, int size, String sort) {
+        Comparator<CarRepairDto> comparator = comparator(sort);
+        return carRepairs(username, status).stream()
+                .sorted(comparator)
+                .skip((long) page * size)
+                .limit(size)
+                .toList();
+    }
+
+    public boolean deleteCarRepair(Long carRepairId) {
+        String username = carRepairOwners.remove(carRepairId);
+        return username != null && user(username).getCarRepairs().remove(carRepairId) != null;
+    }
+
+    public boolean book(List<Long> serviceIds, LocalDate date, LocalTime startHour, Long garageId, Long carId, int repairDuration) {
+        String username = carOwners.get(carId);
+        Optional<GarageDto> garage = garage(garageId);
+        if (username == null || garage.isEmpty()) {
+            return false;
+        }
+        List<AvailableCarRepairDto> selected = offers(garageId).stream()
+                .filter(offer -> serviceIds.contains(offer.getId()))
+                .toList();
+        if (selected.isEmpty()) {
+            return false;
+        }
+        StubUser stubUser = user(username);
+        CarDto car = stubUser.getCars().get(carId);
+        BigDecimal totalCost = selected.stream().map(AvailableCarRepairDto::getCost).reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<Long> carRepairIds = selected.stream().map(offer -> idSequence.incrementAndGet()).toList();
+        BookingDto booking = new BookingDto(idSequence.incrementAndGet(), "ACTIVE", date, startHour, startHour.plusMinutes(repairDuration),
+                LocalDateTime.now(), totalCost, carRepairIds, garage.get());
+        for (int i = 0; i < selected.size(); i++) {
+            AvailableCarRepairDto offer = selected.get(i);
+            putCarRepair(username, stubUser, new CarRepairDto(carRepairIds.get(i), offer.getName(), offer.getDescription(), offer.getCost(),
+                    offer.getRepairTimeInMinutes(), car, booking, "AWAITING"));
+        }
+        return true;
+    }
+
+    public boolean reschedule(Long bookingId, LocalDate date, LocalTime startHour) {
+        boolean found = false;
+        for (StubUser stubUser : users.values()) {
+            for (CarRepairDto carRepair : stubUser.getCarRepairs().values()) {
+                BookingDto booking = carRepair.getBookingDto();
+                if (bookingId.equals(booking.getId())) {
+                    LocalTime endHour = startHour.plusMinutes(Duration.between(booking.getStartHour(), booking.getEndHour()).toMinutes());
+                    carRepair.setBookingDto(new BookingDto(booking.getId(), booking.getStatus(), date, startHour, endHour, booking.getCreated(),
+                            booking.getTotalCost(), booking.getCarServiceDtoIdList(), booking.getGarageDto()));
+                    found = true;
+                }
+            }
+        }
+        return found;
+    }
+
+    public Optional<CarRepairDto> carRepair(Long carRepairId) {
+        return Optional.ofNullable(carRepairOwners.get(carRepairId))
+                .map(username -> user(username).getCarRepairs().get(carRepairId));
+    }
+
+    /**
+     * Free start times of the day: every half hour the repair still fits into the working hours, minus a share that
+     * is always taken for the same garage and date.
+     */
+    public List<LocalTime> availableTimes(LocalDate date, int repairDuration, Long garageId) {
+        Optional<GarageDto> garage = garage(garageId);
+        if (garage.isEmpty()) {
+            return List.of();
+        }
+        Optional<GarageWorkTimeDto> workTime = garage.get().getGarageWorkTimeDtoList().stream()
+                .filter(day -> day.getDay().equals(date.getDayOfWeek().name()))
+                .findFirst();
+        if (workTime.isEmpty()) {
+            return List.of();
+        }
+        SplittableRandom random = new SplittableRandom(stubConfig.getSeed() ^ (garageId * 31 + date.toEpochDay()));
+        LocalDateTime now = LocalDateTime.now();
+        int endMinute = workTime.get().getEndHour().toSecondOfDay() / 60;
+        List<LocalTime> times = new ArrayList<>();
+        for (int minute = workTime.get().getStartHour().toSecondOfDay() / 60; minute + repairDuration <= endMinute; minute += SLOT_MINUTES) {
+            LocalTime time = LocalTime.ofSecondOfDay(minute * 60L);
+            if (random.nextInt(4) != 0 && date.atTime(time).isAfter(now)) {
+                times.add(time);
+            }
+        }
+        return times;
+    }
+
+    public Map<LocalDate, List<LocalTime>> availableTimes(LocalDate from, LocalDate to, int repairDuration, Long garageId) {
+        Map<LocalDate, List<LocalTime>> calendar = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            calendar.put(date, availableTimes(date, repairDuration, garageId));
+        }
+        return calendar;
+    }
+
+    public String forecastSymbol(String city, LocalDate date) {
+        return List.of("Sunny", "Partly cloudy", "Cloudy", "Light rain", "Showers").get(Math.floorMod(city.hashCode() + date.hashCode(), 5));
+    }
+
+    private StubUser createUser(String username) {
+        SplittableRandom random = new SplittableRandom(stubConfig.getSeed() ^ username.hashCode());
+        UserDto userDto = new UserDto(idSequence.incrementAndGet(), "Load", "Tester", username + "@example.com", "+48 600 000 000", username,
+                LocalDateTime.of(2023, 1, 1, 12, 0));
+        StubUser stubUser = new StubUser(userDto, defaultPasswordHash);
+        List<CarDto> cars = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<ModelDto> makeModels = new ArrayList<>(models.values()).get(random.nextInt(models.size()));
+            ModelDto model = makeModels.get(random.nextInt(makeModels.size()));
+            CarDto car = new CarDto(idSequence.incrementAndGet(), model, 2005 + random.nextInt(18), random.nextBoolean() ? "Diesel" : "Petrol");
+            stubUser.getCars().put(car.getVehicleId(), car);
+            carOwners.put(car.getVehicleId(), username);
+            cars.add(car);
+        }
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < stubConfig.getCompletedServices() + 2; i++) {
+            boolean completed = i < stubConfig.getCompletedServices();
+            GarageDto garage = garages.get(random.nextInt(garages.size()));
+            AvailableCarRepairDto offer = offers(garage.getId()).get(random.nextInt(SERVICE_NAMES.size()));
+            LocalDate date = completed ? today.minusDays(1 + random.nextInt(700)) : today.plusDays(1 + random.nextInt(14));
+            LocalTime startHour = LocalTime.of(8 + random.nextInt(6), 0);
+            Long carRepairId = idSequence.incrementAndGet();
+            BookingDto booking = new BookingDto(idSequence.incrementAndGet(), completed ? "COMPLETED" : "ACTIVE", date, startHour,
+                    startHour.plusMinutes(offer.getRepairTimeInMinutes()), date.minusDays(7).atStartOfDay(), offer.getCost(), List.of(carRepairId), garage);
+            putCarRepair(username, stubUser, new CarRepairDto(carRepairId, offer.getName(), offer.getDescription(), offer.getCost(),
+                    offer.getRepairTimeInMinutes(), cars.get(random.nextInt(cars.size())), booking, completed ? "COMPLETED" : "AWAITING"));
+        }
+        return stubUser;
+    }
+
+    private GarageDto createGarage(long garageId, SplittableRandom random) {
+        List<GarageWorkTimeDto> workTimes = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            LocalTime endHour = day == DayOfWeek.SATURDAY ? LocalTime.of(13, 0) : LocalTime.of(16 + random.nextInt(3), 0);
+            workTimes.add(new GarageWorkTimeDto(garageId * 10 + day.getValue(), day.name(), LocalTime.of(8, 0), endHour));
+        }
+        List<AvailableCarRepairDto> garageOffers = new ArrayList<>();
+        for (int i = 0; i < SERVICE_NAMES.size(); i++) {
+            garageOffers.add(new AvailableCarRepairDto(garageId * 100 + i, SERVICE_NAMES.get(i), SERVICE_NAMES.get(i) + " at garage " + garageId,
+                    BigDecimal.valueOf(100 + random.nextInt(900)), 30 * (1 + random.nextInt(6)), "Audi,BMW", new BigDecimal("1.2")));
+        }
+        offers.put(garageId, garageOffers);
+        return new GarageDto(garageId, "Garage " + garageId, garageId + " Main Street, Krakow", workTimes);
+    }
+
+    private void addCar(String username, CarCreateDto carCreateDto, Long carId) {
+        ModelDto model = models(carCreateDto.getMake()).stream()
+                .filter(candidate -> candidate.modelName().equals(carCreateDto.getModel()))
+                .findFirst()
+                .orElse(new ModelDto(idSequence.incrementAndGet(), carCreateDto.getModel(), new MakeDto(idSequence.incrementAndGet(), carCreateDto.getMake()),
+                        carCreateDto.getType()));
+        user(username).getCars().put(carId, new CarDto(carId, model, carCreateDto.getYear(), carCreateDto.getEngine()));
+        carOwners.put(carId, username);
+    }
+
+    private void putCarRepair(String username, StubUser stubUser, CarRepairDto carRepair) {
+        stubUser.getCarRepairs().put(carRepair.getId(), carRepair);
+        carRepairOwners.put(carRepair.getId(), username);
+    }
+
+    private boolean isCompleted(CarRepairDto carRepair, LocalDateTime now) {
+        BookingDto booking = carRepair.getBookingDto();
+        return !booking.getDate().atTime(booking.getEndHour()).isAfter(now);
+    }
+
+    private Comparator<CarRepairDto> comparator(String sort) {
+        Comparator<CarRepairDto> comparator = Comparator.comparing((CarRepairDto carRepair) -> carRepair.getBookingDto().getDate())
+                .thenComparing(carRepair -> carRepair.getBookingDto().getStartHour());
+        if (sort == null || sort.isBlank()) {
+            return comparator.reversed();
+        }
+        String[] parts = sort.split(",");
+        if ("cost".equals(parts[0])) {
+            comparator = Comparator.comparing(CarRepairDto::getCost);
+        } else if ("name".equals(parts[0])) {
+            comparator = Comparator.comparing(CarRepairDto::getName);
+        }
+        return parts.length > 1 && "desc".equalsIgnoreCase(parts[1]) ? comparator.reversed() : comparator;
+    }
+}
@@ -0,0 +1,24 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.response.CarDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import com.frontend.domainDto.response.UserDto;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Getter
+@Setter
+class StubUser {
+    private final Map<Long, CarDto> cars = new ConcurrentHashMap<>();
+    private final Map<Long, CarRepairDto> carRepairs = new ConcurrentHashMap<>();
+    private volatile UserDto user;
+    private volatile String passwordHash;
+
+    StubUser(UserDto user, String passwordHash) {
+        this.user = user;
+        this.passwordHash = passwordHash;
+    }
+}
@@ -0,0 +1,17 @@
+package com.frontend.loadtest.stub;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class StubWebConfig implements WebMvcConfigurer {
+    private final FaultInjectionInterceptor faultInjectionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(faultInjectionInterceptor).addPathPatterns("/v1/**");
+    }
+}
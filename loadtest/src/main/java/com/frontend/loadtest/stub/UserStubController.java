@@ -0,0 +1,45 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.request.UpdateUserDto;
+import com.frontend.domainDto.response.UserDto;
+import com.frontend.domainDto.response.UserLoginDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/users")
+@RequiredArgsConstructor
+public class UserStubController {
+    private static final String ROLE = "USER";
+    private final StubData stubData;
+
+    @GetMapping("/login")
+    public UserLoginDto getUserLogin(@RequestParam String username) {
+        StubUser stubUser = stubData.user(username);
+        return new UserLoginDto(stubUser.getUser().getId(), username, stubUser.getPasswordHash(), ROLE);
+    }
+
+    @GetMapping("/information")
+    public UserDto getUser(@RequestParam String username) {
+        return stubData.user(username).getUser();
+    }
+
+    @GetMapping("/is-registered")
+    public boolean isRegistered(@RequestParam String username) {
+        return stubData.existingUser(username).isPresent();
+    }
+
+    @PutMapping
+    public ResponseEntity<UserDto> updateUser(@RequestBody UpdateUserDto updateUserDto) {
+        return stubData.update(updateUserDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+    }
+}
@@ -0,0 +1,59 @@
+package com.frontend.loadtest.stub;
+
+import com.frontend.domainDto.request.CarCreateDto;
+import com.frontend.domainDto.response.CarDto;
+import com.frontend.domainDto.response.MakeDto;
+import com.frontend.domainDto.response.ModelDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/vehicles")
+@RequiredArgsConstructor
+public class VehicleStubController {
+    private final StubData stubData;
+
+    @GetMapping
+    public List<CarDto> getCars(@RequestParam String username) {
+        return stubData.user(username).getCars().values().stream()
+                .sorted(Comparator.comparing(CarDto::getVehicleId))
+                .toList();
+    }
+
+    @PostMapping
+    public void addCar(@RequestParam String username, @RequestBody CarCreateDto carCreateDto) {
+        stubData.addCar(username, carCreateDto);
+    }
+
+    @PutMapping
+    public ResponseEntity<Void> updateCar(@RequestBody CarCreateDto carCreateDto) {
+        return stubData.updateCar(carCreateDto) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/{carId}")
+    public ResponseEntity<Void> deleteCar(@PathVariable Long carId) {
+        return stubData.deleteCar(carId) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/makes")
+    public List<MakeDto> getMakes() {
+        return stubData.getMakes();
+    }
+
+    @GetMapping("/models")
+    public List<ModelDto> getModels(@RequestParam String make) {
+        return stubData.models(make);
+    }
+}
@@ -0,0 +1,92 @@
+package com.frontend.loadtest.uidl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Books a service from start to end: garage, car, one or two services, a date and a free time.
+ */
+public class BookViewFlow implements UserFlow {
+    private static final String ROUTE = "book";
+    private static final Pattern FIRST_AVAILABLE_DATE = Pattern.compile("First available date: (\\d{2}\\.\\d{2}\\.\\d{4})");
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    @Override
+    public String name() {
+        return ROUTE;
+    }
+
+    @Override
+    public void run(UidlSession session, FlowContext context) {
+        UidlUi ui = session.open(ROUTE);
+        int garageGrid = ui.findByTag("vaadin-grid").stream().filter(grid -> ui.sizeOf(grid.getId()) > 0).findFirst()
+                .orElseThrow(() -> new UidlException("No garages listed.")).getId();
+        context.think();
+
+        ui.call("book.selectGarage", garageGrid, "select", JSON.arrayNode().add(keyOf(context.pick(ui.rowsOf(garageGrid)))));
+        context.think();
+
+        int carComboBox = ui.findByTag("vaadin-combo-box").get(0).getId();
+        ui.call("book.openCars", carComboBox, "setRequestedRange", JSON.arrayNode().add(0).add(50).add(""));
+        ui.setValue("book.selectCar", carComboBox, "value", new TextNode(keyOf(context.pick(ui.rowsOf(carComboBox)))));
+        ui.fire("book.validateCar", carComboBox, "validated", JSON.objectNode().put("event.detail.valid", true));
+        context.think();
+
+        int serviceGrid = ui.findByTag("vaadin-grid").stream().filter(grid -> grid.getId() != garageGrid).findFirst()
+                .orElseThrow(() -> new UidlException("No service grid.")).getId();
+        List<JsonNode> services = ui.rowsOf(serviceGrid);
+        int serviceCount = 1 + context.nextInt(Math.min(2, services.size()));
+        for (int i = 0; i < serviceCount; i++) {
+            ui.call("book.selectService", serviceGrid, "select", JSON.arrayNode().add(keyOf(services.get(i))));
+        }
+        context.think();
+
+        int confirmButton = ui.findSibling(serviceGrid, "vaadin-button", "Confirm")
+                .orElseThrow(() -> new UidlException("No confirm button next to the services.")).getId();
+        ui.click("book.confirmServices", confirmButton);
+        int datePicker = ui.findByTag("vaadin-date-picker").get(0).getId();
+        ui.await("book.awaitCalendar", current -> FIRST_AVAILABLE_DATE.matcher(helperText(current, datePicker)).find(),
+                context.getAwaitTimeout(), context.getPollInterval());
+        context.think();
+
+        ui.setValue("book.selectDate", datePicker, "value", new TextNode(dateToPick(ui, datePicker).toString()));
+        int timePicker = ui.findByTag("vaadin-combo-box").stream().filter(node -> node.getId() != carComboBox).findFirst()
+                .orElseThrow(() -> new UidlException("No time picker.")).getId();
+        ui.await("book.awaitTimes", current -> current.sizeOf(timePicker) > 0, context.getAwaitTimeout(), context.getPollInterval());
+        ui.call("book.openTimes", timePicker, "setRequestedRange", JSON.arrayNode().add(0).add(50).add(""));
+        ui.setValue("book.selectTime", timePicker, "value", new TextNode(keyOf(context.pick(ui.rowsOf(timePicker)))));
+        context.think();
+
+        int bookButton = ui.findButton("Book service").orElseThrow(() -> new UidlException("No book button.")).getId();
+        ui.click("book.book", bookButton);
+        boolean booked = ui.findByTag("h2").stream().anyMatch(heading -> ui.textOf(heading.getId()).startsWith("Your appointment"));
+        if (!booked) {
+            throw new UidlException("Booking was not confirmed.");
+        }
+    }
+
+    private LocalDate dateToPick(UidlUi ui, int datePicker) {
+        Matcher matcher = FIRST_AVAILABLE_DATE.matcher(helperText(ui, datePicker));
+        LocalDate date = matcher.find()
+                ? LocalDate.parse(matcher.group(1), DateTimeFormatter.ofPattern("dd.MM.yyyy"))
+                : LocalDate.now().plusDays(1);
+        return date.getDayOfWeek() == DayOfWeek.SUNDAY ? date.plusDays(1) : date;
+    }
+
+    private static String helperText(UidlUi ui, int datePicker) {
+        String helperText = ui.propertyOf(datePicker, "helperText");
+        return helperText == null ? "" : helperText;
+    }
+
+    private static String keyOf(JsonNode row) {
+        return row.path("key").asText();
+    }
+}
@@ -0,0 +1,57 @@
+package com.frontend.loadtest.uidl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * What a virtual user carries between steps: its own random source and the pacing of the run.
+ */
+public class FlowContext {
+    private final SplittableRandom random;
+    private final Duration thinkTime;
+    private final Duration awaitTimeout;
+    private final Duration pollInterval;
+
+    public FlowContext(SplittableRandom random, Duration thinkTime, Duration awaitTimeout, Duration pollInterval) {
+        this.random = random;
+        this.thinkTime = thinkTime;
+        this.awaitTimeout = awaitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    public <T> T pick(List<T> values) {
+        if (values.isEmpty()) {
+            throw new UidlException("Nothing to pick from.");
+        }
+        return values.get(random.nextInt(values.size()));
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Pauses between two steps for half to one and a half of the think time.
+     */
+    public void think() {
+        long millis = thinkTime.toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis / 2 + random.nextLong(millis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UidlException("Interrupted while thinking.", e);
+        }
+    }
+
+    public Duration getAwaitTimeout() {
+        return awaitTimeout;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+}
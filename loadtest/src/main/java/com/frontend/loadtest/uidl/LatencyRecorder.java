@@ -0,0 +1,91 @@
+package com.frontend.loadtest.uidl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects round trip times and errors per step. Every sample is kept, a run is short enough for exact percentiles.
+ */
+public class LatencyRecorder {
+    private static final String FLOW_PREFIX = "flow.";
+    private final Map<String, List<Long>> samples = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+    public void record(String step, long nanos) {
+        List<Long> stepSamples = samples.computeIfAbsent(step, key -> new ArrayList<>());
+        synchronized (stepSamples) {
+            stepSamples.add(nanos);
+        }
+    }
+
+    public void recordFlow(String flow, long nanos) {
+        record(FLOW_PREFIX + flow, nanos);
+    }
+
+    public void recordFlowError(String flow) {
+        recordError(FLOW_PREFIX + flow);
+    }
+
+    public void recordError(String step) {
+        errors.computeIfAbsent(step, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public Map<String, Summary> summarize() {
+        Map<String, Summary> summaries = new TreeMap<>();
+        samples.forEach((step, stepSamples) -> {
+            long[] sorted;
+            synchronized (stepSamples) {
+                sorted = stepSamples.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            summaries.put(step, new Summary(sorted.length, percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1], errorsOf(step)));
+        });
+        errors.keySet().stream()
+                .filter(step -> !summaries.containsKey(step))
+                .forEach(step -> summaries.put(step, new Summary(0, 0, 0, 0, 0, errorsOf(step))));
+        return summaries;
+    }
+
+    /**
+     * Summarizes every single round trip, leaving out the flow totals made of them.
+     */
+    public Summary summarizeRoundTrips() {
+        long[] sorted = samples.entrySet().stream()
+                .filter(step -> !step.getKey().startsWith(FLOW_PREFIX))
+                .map(Map.Entry::getValue)
+                .flatMap(stepSamples -> {
+                    synchronized (stepSamples) {
+                        return List.copyOf(stepSamples).stream();
+                    }
+                })
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        return new Summary(sorted.length, percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1], errorCount());
+    }
+
+    private long errorsOf(String step) {
+        AtomicLong stepErrors = errors.get(step);
+        return stepErrors == null ? 0 : stepErrors.get();
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    public record Summary(int count, long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos, long errors) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.frontend.loadtest.uidl;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Reads the few frontend gauges the report needs from its Prometheus endpoint.
+ */
+public record PrometheusScrape(double activeSessions, double heapUsedBytes, double liveDataBytes) {
+
+    public static PrometheusScrape scrape(HttpClient httpClient, String baseUrl) {
+        try {
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new UidlException("Prometheus endpoint answered with status: " + response.statusCode());
+            }
+            String metrics = response.body();
+            return new PrometheusScrape(sum(metrics, "tomcat_sessions_active_current_sessions", ""),
+                    sum(metrics, "jvm_memory_used_bytes", "area=\"heap\""),
+                    sum(metrics, "jvm_gc_live_data_size_bytes", ""));
+        } catch (IOException e) {
+            throw new UidlException("Could not scrape Prometheus endpoint.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UidlException("Interrupted while scraping Prometheus endpoint.", e);
+        }
+    }
+
+    private static double sum(String metrics, String name, String label) {
+        return metrics.lines()
+                .filter(line -> line.startsWith(name + " ") || line.startsWith(name + "{"))
+                .filter(line -> line.contains(label))
+                .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .sum();
+    }
+}
@@ -0,0 +1,40 @@
+package com.frontend.loadtest.uidl;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Looks through the user's services: waits for the incoming ones, then pages and sorts the completed history.
+ */
+public class ServiceViewFlow implements UserFlow {
+    private static final String ROUTE = "services";
+    private static final int COMPLETED_TAB = 2;
+    private static final int PAGE_SIZE = 50;
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    @Override
+    public String name() {
+        return ROUTE;
+    }
+
+    @Override
+    public void run(UidlSession session, FlowContext context) {
+        UidlUi ui = session.open(ROUTE);
+        int grid = ui.findByTag("vaadin-grid").get(0).getId();
+        ui.await("services.awaitIncoming", current -> current.sizeOf(grid) > 0, context.getAwaitTimeout(), context.getPollInterval());
+        context.think();
+
+        int tabs = ui.findByTag("vaadin-tabs").get(0).getId();
+        ui.setValue("services.openCompleted", tabs, "selected", new IntNode(COMPLETED_TAB));
+        int completed = ui.sizeOf(grid);
+        for (int start = PAGE_SIZE; start < completed; start += PAGE_SIZE) {
+            ui.call("services.nextPage", grid, "setRequestedRange", JSON.arrayNode().add(start).add(PAGE_SIZE));
+        }
+        context.think();
+
+        ui.sorterPathOf("Start time, date").ifPresent(path -> ui.call("services.sortByDate", grid, "sortersChanged",
+                JSON.arrayNode().add(JSON.arrayNode().add(JSON.objectNode()
+                        .put("path", path)
+                        .put("direction", context.nextInt(2) == 0 ? "asc" : "desc")))));
+    }
+}
@@ -0,0 +1,11 @@
+package com.frontend.loadtest.uidl;
+
+public class UidlException extends RuntimeException {
+    public UidlException(String message) {
+        super(message);
+    }
+
+    public UidlException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,131 @@
+package com.frontend.loadtest.uidl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the running frontend with virtual users, each logging in once and then going through the book and services
+ * flows until the run ends. Sessions are left open on purpose, so the report shows what the node holds for that many
+ * users. Configured with system properties, see the README.
+ */
+public class UidlLoadTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UidlLoadTest.class);
+
+    public static void main(String[] args) throws InterruptedException {
+        String target = System.getProperty("loadtest.target", "http://localhost:8081");
+        String managementTarget = System.getProperty("loadtest.management-target", "http://localhost:8091");
+        int users = Integer.getInteger("loadtest.users", 20);
+        Duration rampUp = Duration.ofSeconds(Integer.getInteger("loadtest.ramp-up-seconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60));
+        Duration thinkTime = Duration.ofMillis(Integer.getInteger("loadtest.think-time-millis", 500));
+        Duration awaitTimeout = Duration.ofSeconds(Integer.getInteger("loadtest.await-timeout-seconds", 10));
+        Duration pollInterval = Duration.ofMillis(Integer.getInteger("loadtest.poll-interval-millis", 100));
+        String userPrefix = System.getProperty("loadtest.user-prefix", "loadtest_user_");
+        String password = System.getProperty("loadtest.password", "password");
+        Duration settle = Duration.ofSeconds(Integer.getInteger("loadtest.settle-seconds", 0));
+        long seed = Long.getLong("loadtest.seed", 42L);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<UserFlow> flows = List.of(new BookViewFlow(), new ServiceViewFlow());
+        AtomicInteger loggedIn = new AtomicInteger();
+        AtomicLong completedFlows = new AtomicLong();
+
+        PrometheusScrape before = PrometheusScrape.scrape(httpClient, managementTarget);
+        LOGGER.info("Starting " + users + " virtual users against " + target + " for " + duration.toSeconds() + "s.");
+        long end = System.nanoTime() + rampUp.plus(duration).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            long startDelay = users == 1 ? 0 : rampUp.toMillis() * user / (users - 1);
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(startDelay);
+                    FlowContext context = new FlowContext(new SplittableRandom(seed + user), thinkTime, awaitTimeout, pollInterval);
+                    UidlSession session = new UidlSession(httpClient, objectMapper, recorder, target);
+                    session.login(userPrefix + user, password);
+                    loggedIn.incrementAndGet();
+                    while (System.nanoTime() < end) {
+                        for (UserFlow flow : flows) {
+                            runFlow(flow, session, context, recorder);
+                            completedFlows.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (UidlException e) {
+                    recorder.recordError("login");
+                    LOGGER.error("Virtual user " + user + " could not start: " + e.getMessage());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(rampUp.plus(duration).plus(awaitTimeout).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+        // Gives time to force a full GC on the frontend (jcmd <pid> GC.run), so live data reflects the open sessions.
+        Thread.sleep(settle.toMillis());
+        PrometheusScrape after = PrometheusScrape.scrape(httpClient, managementTarget);
+        report(recorder, before, after, loggedIn.get(), completedFlows.get());
+    }
+
+    private static void runFlow(UserFlow flow, UidlSession session, FlowContext context, LatencyRecorder recorder) {
+        long start = System.nanoTime();
+        try {
+            flow.run(session, context);
+            recorder.recordFlow(flow.name(), System.nanoTime() - start);
+        } catch (UidlException e) {
+            recorder.recordFlowError(flow.name());
+            LOGGER.warn("Flow " + flow.name() + " failed: " + e.getMessage());
+        }
+        context.think();
+    }
+
+    private static void report(LatencyRecorder recorder, PrometheusScrape before, PrometheusScrape after, int loggedIn, long completedFlows) {
+        StringBuilder report = new StringBuilder(System.lineSeparator());
+        report.append(String.format("%-28s %8s %9s %9s %9s %9s %7s%n", "step", "count", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors"));
+        for (Map.Entry<String, LatencyRecorder.Summary> step : recorder.summarize().entrySet()) {
+            report.append(line(step.getKey(), step.getValue()));
+        }
+        report.append(line("all round trips", recorder.summarizeRoundTrips()));
+        double newSessions = after.activeSessions() - before.activeSessions();
+        report.append(String.format("%nvirtual users logged in: %d, flows run: %d%n", loggedIn, completedFlows));
+        report.append(String.format("active sessions: %.0f (was %.0f)%n", after.activeSessions(), before.activeSessions()));
+        report.append(String.format("heap used: %.1f MB (was %.1f MB), live data after last major GC: %.1f MB (was %.1f MB)%n",
+                megabytes(after.heapUsedBytes()), megabytes(before.heapUsedBytes()), megabytes(after.liveDataBytes()), megabytes(before.liveDataBytes())));
+        double liveDataGrowth = after.liveDataBytes() - before.liveDataBytes();
+        if (newSessions > 0 && liveDataGrowth > 0) {
+            report.append(String.format("live data per new session: ~%.0f KB%n", liveDataGrowth / newSessions / 1024));
+        } else {
+            report.append(String.format("live data per new session: inconclusive, no full GC since the sessions were opened%n"));
+        }
+        System.out.println(report);
+    }
+
+    private static String line(String step, LatencyRecorder.Summary summary) {
+        return String.format("%-28s %8d %9.1f %9.1f %9.1f %9.1f %7d%n", step, summary.count(), millis(summary.p50Nanos()), millis(summary.p95Nanos()),
+                millis(summary.p99Nanos()), millis(summary.maxNanos()), summary.errors());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double megabytes(double bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
@@ -0,0 +1,62 @@
+package com.frontend.loadtest.uidl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client side copy of one state node, limited to the features the flows look at.
+ */
+class UidlNode {
+    static final int ELEMENT_DATA = 0;
+    static final int ELEMENT_PROPERTIES = 1;
+    static final int ELEMENT_CHILDREN = 2;
+    static final int ELEMENT_LISTENERS = 4;
+    static final int TEXT_NODE = 7;
+    static final int CLIENT_CALLABLE_HANDLERS = 19;
+    private final int id;
+    private final Map<Integer, Map<String, JsonNode>> maps = new HashMap<>();
+    private final Map<Integer, List<JsonNode>> lists = new HashMap<>();
+
+    UidlNode(int id) {
+        this.id = id;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    String getTag() {
+        JsonNode tag = map(ELEMENT_DATA).get("tag");
+        return tag == null ? null : tag.asText();
+    }
+
+    JsonNode getProperty(String name) {
+        return map(ELEMENT_PROPERTIES).get(name);
+    }
+
+    String getListenerConstant(String event) {
+        JsonNode constant = map(ELEMENT_LISTENERS).get(event);
+        return constant == null ? null : constant.asText();
+    }
+
+    String getText() {
+        JsonNode text = map(TEXT_NODE).get("text");
+        return text == null ? null : text.asText();
+    }
+
+    List<Integer> getChildren() {
+        return list(ELEMENT_CHILDREN).stream().map(JsonNode::asInt).toList();
+    }
+
+    Map<String, JsonNode> map(int feature) {
+        return maps.computeIfAbsent(feature, key -> new HashMap<>());
+    }
+
+    List<JsonNode> list(int feature) {
+        return lists.computeIfAbsent(feature, key -> new ArrayList<>());
+    }
+}
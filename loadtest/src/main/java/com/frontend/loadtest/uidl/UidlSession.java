@@ -0,0 +1,118 @@
+package com.frontend.loadtest.uidl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * One browser: an HTTP session logged in through the login form, able to open any number of UIs in it. Cookies are
+ * kept here instead of in the HTTP client, so all virtual users can share a single client.
+ */
+public class UidlSession {
+    private static final Pattern CSRF_TOKEN = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]*)\"");
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final String baseUrl;
+    private final Map<String, String> cookies = new ConcurrentHashMap<>();
+
+    public UidlSession(HttpClient httpClient, ObjectMapper objectMapper, LatencyRecorder recorder, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.baseUrl = baseUrl;
+    }
+
+    public void login(String username, String password) {
+        String loginPage = send("login.page", HttpRequest.newBuilder(URI.create(baseUrl + "/login")).GET()).body();
+        Matcher csrf = CSRF_TOKEN.matcher(loginPage);
+        if (!csrf.find()) {
+            throw new UidlException("Login page has no CSRF token.");
+        }
+        String form = "username=" + encode(username) + "&password=" + encode(password) + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<String> response = send("login.submit", HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)));
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new UidlException("Login of user: " + username + " failed with status: " + response.statusCode() + ", location: " + location);
+        }
+    }
+
+    /**
+     * Bootstraps a new UI and navigates it to the route, like opening the route in a new browser tab.
+     */
+    public UidlUi open(String route) {
+        HttpResponse<String> response = send(route + ".init", HttpRequest.newBuilder(URI.create(baseUrl + "/?v-r=init&location=" + encode(route) + "&query=")).GET());
+        if (response.statusCode() != 200) {
+            throw new UidlException("Init of route: " + route + " failed with status: " + response.statusCode());
+        }
+        UidlUi ui = new UidlUi(this, readJson(response.body()).path("appConfig"));
+        ui.connect(route);
+        return ui;
+    }
+
+    HttpResponse<String> send(String step, HttpRequest.Builder request) {
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                    .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UidlException("Request of step: " + step + " failed.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UidlException("Interrupted during step: " + step, e);
+        }
+        recorder.record(step, System.nanoTime() - start);
+        storeCookies(response.headers().allValues("Set-Cookie"));
+        return response;
+    }
+
+    JsonNode readJson(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UidlException("Response is not JSON: " + body.substring(0, Math.min(body.length(), 200)), e);
+        }
+    }
+
+    ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    private void storeCookies(List<String> setCookies) {
+        for (String setCookie : setCookies) {
+            String pair = setCookie.split(";", 2)[0];
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+            }
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
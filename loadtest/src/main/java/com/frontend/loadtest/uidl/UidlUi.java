@@ -0,0 +1,271 @@
+package com.frontend.loadtest.uidl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Speaks the UIDL protocol for one UI the way the Flow client does over XHR: sends RPC invocations, applies the state
+ * tree changes of every response and keeps the rows data connectors pushed to grids and combo boxes. Without a push
+ * connection, changes made by background work arrive with the next request, which is what {@link #await} relies on.
+ */
+public class UidlUi {
+    private static final String RESPONSE_PREFIX = "for(;;);";
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+    private final UidlSession session;
+    private final int uiId;
+    private final String appId;
+    private final String securityKey;
+    private final Map<Integer, UidlNode> nodes = new HashMap<>();
+    private final Map<String, JsonNode> constants = new HashMap<>();
+    private final Map<Integer, List<JsonNode>> rows = new HashMap<>();
+    private final Map<String, String> sorterPaths = new HashMap<>();
+    private int syncId;
+    private int clientId;
+    private int promiseId;
+
+    UidlUi(UidlSession session, JsonNode appConfig) {
+        this.session = session;
+        this.uiId = appConfig.path("v-uiId").asInt();
+        this.appId = appConfig.path("appId").asText();
+        JsonNode uidl = appConfig.path("uidl");
+        this.securityKey = uidl.path("Vaadin-Security-Key").asText();
+        apply(uidl);
+    }
+
+    void connect(String route) {
+        ArrayNode args = JSON.arrayNode()
+                .add("flow-container-" + appId.toLowerCase())
+                .add(appId)
+                .add(route)
+                .add("")
+                .add("")
+                .addNull();
+        call(route + ".navigate", 1, "connectClient", args);
+    }
+
+    /**
+     * Invokes a method the component published to the client, such as a grid selecting a row by its key.
+     */
+    public void call(String step, int node, String method, ArrayNode args) {
+        ObjectNode invocation = JSON.objectNode()
+                .put("type", "publishedEventHandler")
+                .put("node", node)
+                .put("templateEventMethodName", method)
+                .put("promise", promiseId++);
+        invocation.set("templateEventMethodArgs", args);
+        send(step, List.of(invocation));
+    }
+
+    public void click(String step, int node) {
+        String constant = nodes.get(node).getListenerConstant("click");
+        ObjectNode data = JSON.objectNode();
+        if (constant != null && constants.containsKey(constant)) {
+            // Every expression the listener asked for is answered like a plain left click would.
+            constants.get(constant).fieldNames().forEachRemaining(expression -> {
+                if (expression.endsWith("Key")) {
+                    data.put(expression, false);
+                } else {
+                    data.put(expression, 0);
+                }
+            });
+        }
+        send(step, List.of(event(node, "click", data)));
+    }
+
+    /**
+     * Sets a property the way user input does, followed by the change event its server side listeners wait for.
+     */
+    public void setValue(String step, int node, String property, JsonNode value) {
+        ObjectNode sync = JSON.objectNode()
+                .put("type", "mSync")
+                .put("node", node)
+                .put("feature", UidlNode.ELEMENT_PROPERTIES)
+                .put("property", property);
+        sync.set("value", value);
+        send(step, List.of(sync, event(node, property.replaceAll("([A-Z])", "-$1").toLowerCase() + "-changed", JSON.objectNode())));
+    }
+
+    public void fire(String step, int node, String event, ObjectNode data) {
+        send(step, List.of(event(node, event, data)));
+    }
+
+    public void poll(String step) {
+        send(step, List.of());
+    }
+
+    /**
+     * Polls until the condition holds, each poll picking up whatever background work changed in the meantime.
+     */
+    public void await(String step, Predicate<UidlUi> condition, Duration timeout, Duration pollInterval) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.test(this)) {
+            if (System.nanoTime() > deadline) {
+                throw new UidlException("Step: " + step + " timed out after " + timeout.toMillis() + "ms.");
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UidlException("Interrupted during step: " + step, e);
+            }
+            poll(step);
+        }
+    }
+
+    public List<UidlNode> findByTag(String tag) {
+        return nodes.values().stream()
+                .filter(node -> tag.equals(node.getTag()))
+                .sorted(Comparator.comparingInt(UidlNode::getId))
+                .toList();
+    }
+
+    public Optional<UidlNode> findButton(String text) {
+        return findByTag("vaadin-button").stream()
+                .filter(button -> text.equals(textOf(button.getId())))
+                .findFirst();
+    }
+
+    public Optional<UidlNode> findSibling(int node, String tag, String text) {
+        Integer parent = parentOf(node);
+        return nodes.values().stream()
+                .filter(candidate -> tag.equals(candidate.getTag()) && text.equals(textOf(candidate.getId())))
+                .filter(candidate -> parent != null && parent.equals(parentOf(candidate.getId())))
+                .findFirst();
+    }
+
+    public String textOf(int node) {
+        UidlNode uidlNode = nodes.get(node);
+        if (uidlNode == null) {
+            return "";
+        }
+        if (uidlNode.getText() != null) {
+            return uidlNode.getText();
+        }
+        StringBuilder text = new StringBuilder();
+        uidlNode.getChildren().forEach(child -> text.append(textOf(child)));
+        return text.toString();
+    }
+
+    public int sizeOf(int node) {
+        JsonNode size = nodes.get(node).getProperty("size");
+        return size == null ? 0 : size.asInt();
+    }
+
+    public String propertyOf(int node, String property) {
+        JsonNode value = nodes.get(node).getProperty(property);
+        return value == null ? null : value.asText();
+    }
+
+    public List<JsonNode> rowsOf(int node) {
+        return rows.getOrDefault(node, List.of());
+    }
+
+    public Optional<String> sorterPathOf(String header) {
+        return Optional.ofNullable(sorterPaths.get(header));
+    }
+
+    private Integer parentOf(int node) {
+        return nodes.values().stream()
+                .filter(candidate -> candidate.getChildren().contains(node))
+                .map(UidlNode::getId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private ObjectNode event(int node, String event, ObjectNode data) {
+        ObjectNode invocation = JSON.objectNode()
+                .put("type", "event")
+                .put("node", node)
+                .put("event", event);
+        invocation.set("data", data);
+        return invocation;
+    }
+
+    private void send(String step, List<ObjectNode> invocations) {
+        ObjectNode message = JSON.objectNode()
+                .put("csrfToken", securityKey)
+                .put("syncId", syncId)
+                .put("clientId", clientId);
+        message.set("rpc", JSON.arrayNode().addAll(invocations));
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(session.getBaseUrl() + "/?v-r=uidl&v-uiId=" + uiId))
+                .header("Content-Type", "application/json; charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(message.toString()));
+        HttpResponse<String> response = session.send(step, request);
+        if (response.statusCode() != 200) {
+            throw new UidlException("Step: " + step + " failed with status: " + response.statusCode());
+        }
+        String body = response.body().startsWith(RESPONSE_PREFIX) ? response.body().substring(RESPONSE_PREFIX.length()) : response.body();
+        JsonNode uidl = session.readJson(body);
+        if (uidl.isArray()) {
+            uidl = uidl.path(0);
+        }
+        JsonNode meta = uidl.path("meta");
+        if (meta.has("appError") || meta.path("sessionExpired").asBoolean() || uidl.path("syncId").asInt(-1) == -1) {
+            throw new UidlException("Step: " + step + " was rejected by the server: " + meta);
+        }
+        clientId++;
+        apply(uidl);
+    }
+
+    private void apply(JsonNode uidl) {
+        syncId = uidl.path("syncId").asInt(syncId);
+        uidl.path("constants").fields().forEachRemaining(constant -> constants.put(constant.getKey(), constant.getValue()));
+        for (JsonNode change : uidl.path("changes")) {
+            int nodeId = change.path("node").asInt();
+            String type = change.path("type").asText();
+            if ("detach".equals(type)) {
+                nodes.remove(nodeId);
+                rows.remove(nodeId);
+                continue;
+            }
+            UidlNode node = nodes.computeIfAbsent(nodeId, UidlNode::new);
+            int feature = change.path("feat").asInt();
+            switch (type) {
+                case "put" -> node.map(feature).put(change.path("key").asText(),
+                        change.has("nodeValue") ? change.get("nodeValue") : change.path("value"));
+                case "remove" -> node.map(feature).remove(change.path("key").asText());
+                case "clear" -> node.list(feature).clear();
+                case "splice" -> splice(node.list(feature), change);
+                default -> {
+                }
+            }
+        }
+        for (JsonNode invocation : uidl.path("execute")) {
+            String script = invocation.path(invocation.size() - 1).asText();
+            JsonNode target = invocation.path(0);
+            if (script.contains("$connector.set(") && target.isArray() && target.path(0).asInt(-1) == 0) {
+                List<JsonNode> items = new ArrayList<>();
+                invocation.path(2).path(1).forEach(items::add);
+                rows.put(target.path(1).asInt(), items);
+            } else if (script.contains("setHeaderRenderer") && invocation.path(2).asBoolean()) {
+                sorterPaths.put(invocation.path(1).asText(), invocation.path(3).asText());
+            }
+        }
+    }
+
+    private void splice(List<JsonNode> list, JsonNode change) {
+        int index = change.path("index").asInt();
+        int remove = change.path("remove").asInt(0);
+        for (int i = 0; i < remove && index < list.size(); i++) {
+            list.remove(index);
+        }
+        JsonNode added = change.has("addNodes") ? change.get("addNodes") : change.path("add");
+        List<JsonNode> values = new ArrayList<>();
+        added.forEach(values::add);
+        list.addAll(Math.min(index, list.size()), values);
+    }
+}
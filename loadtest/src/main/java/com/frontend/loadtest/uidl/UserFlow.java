@@ -0,0 +1,10 @@
+package com.frontend.loadtest.uidl;
+
+/**
+ * One pass through a view, as a user would click through it.
+ */
+public interface UserFlow {
+    String name();
+
+    void run(UidlSession session, FlowContext context);
+}
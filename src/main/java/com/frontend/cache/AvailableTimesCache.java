@@ -0,0 +1,79 @@
+package com.frontend.cache;
+
+import com.frontend.client.BookingClient;
+import com.frontend.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Available booking times per garage and date. Entries are futures so the backend call runs outside the cache and
+ * concurrent viewers of the same slot wait for the one call in flight. Invalidating removes in-flight futures as well,
+ * a load started before a booking write completes for its waiting viewers but is never stored.
+ */
+@Component
+public class AvailableTimesCache implements MeterBinder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AvailableTimesCache.class);
+    private final AsyncCache<SlotKey, List<LocalTime>> cache;
+    private final BookingClient bookingClient;
+
+    public AvailableTimesCache(BookingClient bookingClient, CacheConfig cacheConfig) {
+        this.bookingClient = bookingClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getAvailableTimesMaxEntries())
+                .expireAfterWrite(cacheConfig.getAvailableTimesTtl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns null when the backend could not be asked, which is not the same as a day without free times.
+     */
+    public List<LocalTime> getAvailableTimes(Long garageId, LocalDate date, int repairDuration) {
+        SlotKey key = new SlotKey(garageId, date, repairDuration, null);
+        return getOrLoad(key, () -> bookingClient.getAvailableBookingTimes(date, repairDuration, garageId));
+    }
+
+    public List<LocalTime> getAvailableTimesForCarService(Long garageId, LocalDate date, Long carServiceId) {
+        SlotKey key = new SlotKey(garageId, date, null, carServiceId);
+        return getOrLoad(key, () -> bookingClient.getAvailableBookingTimes(date, carServiceId));
+    }
+
+    public void invalidate(Long garageId, LocalDate date) {
+        LOGGER.info("Invalidating cached available times of garage with id: " + garageId + " for date: " + date);
+        cache.asMap().keySet().removeIf(key -> key.garageId().equals(garageId) && key.date().equals(date));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "available-times");
+    }
+
+    private List<LocalTime> getOrLoad(SlotKey key, Supplier<List<LocalTime>> loader) {
+        CompletableFuture<List<LocalTime>> load = new CompletableFuture<>();
+        CompletableFuture<List<LocalTime>> availableTimes = cache.get(key, (slotKey, executor) -> load);
+        if (availableTimes == load) {
+            try {
+                load.complete(loader.get());
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+            }
+        }
+        // A null result means the backend call failed, it is not cached so the next viewer retries.
+        return availableTimes.join();
+    }
+
+    private record SlotKey(Long garageId, LocalDate date, Integer repairDuration, Long carServiceId) {
+    }
+}
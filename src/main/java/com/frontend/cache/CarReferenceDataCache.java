@@ -0,0 +1,158 @@
+package com.frontend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.client.CarClient;
+import com.frontend.config.BackgroundTasks;
+import com.frontend.config.CacheConfig;
+import com.frontend.domainDto.response.MakeDto;
+import com.frontend.domainDto.response.ModelDto;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Process-wide cache of car makes and models served by the car API proxy. Entries are preloaded from a local snapshot,
+ * snapshot entries are refreshed in the background on first use and every entry is refreshed ahead once it gets older
+ * than the configured refresh interval, so callers only wait for the remote API when a make has never been loaded.
+ */
+@Component
+public class CarReferenceDataCache implements MeterBinder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CarReferenceDataCache.class);
+    private static final String MAKES_KEY = "makes";
+    private final CacheConfig cacheConfig;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final AsyncLoadingCache<String, List<String>> makes;
+    private final AsyncLoadingCache<String, List<String>> modelsByMake;
+    private final Set<String> snapshotKeys = ConcurrentHashMap.newKeySet();
+
+    public CarReferenceDataCache(CarClient carClient, CacheConfig cacheConfig, ResourceLoader resourceLoader, ObjectMapper objectMapper, ThreadPoolTaskExecutor backgroundExecutor) {
+        this.cacheConfig = cacheConfig;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.makes = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(cacheConfig.getCarReferenceTtl())
+                .refreshAfterWrite(cacheConfig.getCarReferenceRefreshAfter())
+                .executor(backgroundExecutor)
+                .recordStats()
+                .buildAsync(new ReferenceDataLoader(key -> carClient.getCarMakes().stream().map(MakeDto::makeName).toList()));
+        this.modelsByMake = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getCarReferenceMaxMakes())
+                .expireAfterWrite(cacheConfig.getCarReferenceTtl())
+                .refreshAfterWrite(cacheConfig.getCarReferenceRefreshAfter())
+                .executor(backgroundExecutor)
+                .recordStats()
+                .buildAsync(new ReferenceDataLoader(make -> carClient.getCarModels(make).stream().map(ModelDto::modelName).toList()));
+    }
+
+    @PostConstruct
+    public void preloadSnapshot() {
+        Resource snapshot = resourceLoader.getResource(cacheConfig.getCarReferenceSnapshotLocation());
+        if (!snapshot.exists()) {
+            LOGGER.warn("Car reference snapshot not found at: " + cacheConfig.getCarReferenceSnapshotLocation());
+            return;
+        }
+        try (InputStream inputStream = snapshot.getInputStream()) {
+            CarReferenceSnapshot carReferenceSnapshot = objectMapper.readValue(inputStream, CarReferenceSnapshot.class);
+            if (carReferenceSnapshot.makes() != null && !carReferenceSnapshot.makes().isEmpty()) {
+                makes.synchronous().put(MAKES_KEY, List.copyOf(carReferenceSnapshot.makes()));
+                snapshotKeys.add(MAKES_KEY);
+            }
+            if (carReferenceSnapshot.models() != null) {
+                carReferenceSnapshot.models().forEach((make, models) -> {
+                    modelsByMake.synchronous().put(make, List.copyOf(models));
+                    snapshotKeys.add(make);
+                });
+            }
+            LOGGER.info("Preloaded car reference snapshot with makes and models for " + modelsByMake.synchronous().estimatedSize() + " makes.");
+        } catch (IOException e) {
+            LOGGER.error("Cannot read car reference snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    public CompletableFuture<List<String>> getMakes() {
+        refreshIfFromSnapshot(makes, MAKES_KEY);
+        return makes.get(MAKES_KEY).thenApply(CarReferenceDataCache::orEmpty);
+    }
+
+    public CompletableFuture<List<String>> getModels(String make) {
+        refreshIfFromSnapshot(modelsByMake, make);
+        return modelsByMake.get(make).thenApply(CarReferenceDataCache::orEmpty);
+    }
+
+    public void invalidate() {
+        LOGGER.info("Invalidating cached car reference data.");
+        snapshotKeys.clear();
+        makes.synchronous().invalidateAll();
+        modelsByMake.synchronous().invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, makes.synchronous(), "car-makes");
+        CaffeineCacheMetrics.monitor(registry, modelsByMake.synchronous(), "car-models");
+    }
+
+    private void refreshIfFromSnapshot(AsyncLoadingCache<String, List<String>> cache, String key) {
+        if (snapshotKeys.remove(key)) {
+            cache.synchronous().refresh(key);
+        }
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+
+    private record ReferenceDataLoader(Function<String, List<String>> fetcher) implements CacheLoader<String, List<String>> {
+
+        @Override
+        public List<String> load(String key) {
+            List<String> values = fetcher.apply(key);
+            return values.isEmpty() ? null : List.copyOf(values);
+        }
+
+        @Override
+        public List<String> reload(String key, List<String> oldValue) {
+            List<String> values = fetcher.apply(key);
+            if (values.isEmpty()) {
+                LOGGER.warn("Car reference data refresh for key: " + key + " returned no values, keeping previous ones.");
+                return oldValue;
+            }
+            return List.copyOf(values);
+        }
+
+        @Override
+        public CompletableFuture<List<String>> asyncLoad(String key, Executor executor) {
+            return BackgroundTasks.supplyAsync(() -> load(key), executor);
+        }
+
+        @Override
+        public CompletableFuture<List<String>> asyncReload(String key, List<String> oldValue, Executor executor) {
+            return BackgroundTasks.supplyAsync(() -> reload(key, oldValue), executor);
+        }
+    }
+
+    private record CarReferenceSnapshot(List<String> makes, Map<String, List<String>> models) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.frontend.cache;
+
+import com.frontend.client.WeatherApiClient;
+import com.frontend.config.BackgroundTasks;
+import com.frontend.config.CacheConfig;
+import com.frontend.domainDto.response.ForecastDto;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class ForecastCache implements MeterBinder {
+    private final AsyncLoadingCache<ForecastKey, ForecastDto> cache;
+    private final WeatherApiClient weatherApiClient;
+
+    public ForecastCache(WeatherApiClient weatherApiClient, CacheConfig cacheConfig, ThreadPoolTaskExecutor backgroundExecutor) {
+        this.weatherApiClient = weatherApiClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getForecastMaxEntries())
+                .expireAfterWrite(cacheConfig.getForecastTtl())
+                .executor(backgroundExecutor)
+                .recordStats()
+                .buildAsync((key, executor) -> BackgroundTasks.supplyAsync(() -> load(key), executor));
+    }
+
+    public CompletableFuture<ForecastDto> getForecast(String city, LocalDate date) {
+        return cache.get(new ForecastKey(city, date));
+    }
+
+    /**
+     * Loads the forecast on the calling thread unless it is cached or already loading. Viewers asking for it meanwhile
+     * wait for this load. Returns false when the forecast could not be loaded.
+     */
+    public boolean prefetch(String city, LocalDate date) {
+        ForecastKey key = new ForecastKey(city, date);
+        CompletableFuture<ForecastDto> load = new CompletableFuture<>();
+        if (cache.get(key, (forecastKey, executor) -> load) != load) {
+            return true;
+        }
+        try {
+            ForecastDto forecastDto = load(key);
+            load.complete(forecastDto);
+            return forecastDto != null;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "forecasts");
+    }
+
+    private ForecastDto load(ForecastKey key) {
+        ForecastDto forecastDto = weatherApiClient.getWeatherForCityAndDate(key.city(), key.date());
+        return forecastDto == null || forecastDto.getSymbolPhrase() == null ? null : forecastDto;
+    }
+
+    private record ForecastKey(String city, LocalDate date) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.frontend.cache;
+
+import com.frontend.client.GarageClient;
+import com.frontend.config.CacheConfig;
+import com.frontend.domainDto.response.GarageDto;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class GarageCache implements MeterBinder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GarageCache.class);
+    private static final String CATALOGUE_KEY = "garages";
+    private final LoadingCache<String, List<GarageDto>> cache;
+
+    public GarageCache(GarageClient garageClient, CacheConfig cacheConfig, ThreadPoolTaskExecutor backgroundExecutor) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(cacheConfig.getGarageTtl())
+                .refreshAfterWrite(cacheConfig.getGarageRefreshAfter())
+                .executor(backgroundExecutor)
+                .recordStats()
+                .build(new GarageCatalogueLoader(garageClient, cacheConfig.getGarageMaxGarages()));
+    }
+
+    public List<GarageDto> getGarages() {
+        return Optional.ofNullable(cache.get(CATALOGUE_KEY)).orElseGet(List::of);
+    }
+
+    public void refresh() {
+        LOGGER.info("Refreshing cached garage catalogue.");
+        cache.refresh(CATALOGUE_KEY);
+    }
+
+    public void invalidate() {
+        LOGGER.info("Invalidating cached garage catalogue.");
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "garages");
+        Gauge.builder("garages.catalogue.size", cache, garages -> Optional.ofNullable(garages.getIfPresent(CATALOGUE_KEY)).map(List::size).orElse(0))
+                .description("Garages in the cached catalogue")
+                .register(registry);
+    }
+
+    private record GarageCatalogueLoader(GarageClient garageClient, long maxGarages) implements CacheLoader<String, List<GarageDto>> {
+
+        @Override
+        public List<GarageDto> load(String key) {
+            List<GarageDto> garageDtoList = garageClient.getGarages();
+            return garageDtoList.isEmpty() ? null : copyOf(garageDtoList);
+        }
+
+        @Override
+        public List<GarageDto> reload(String key, List<GarageDto> oldValue) {
+            List<GarageDto> garageDtoList = garageClient.getGarages();
+            if (garageDtoList.isEmpty()) {
+                LOGGER.warn("Garage catalogue refresh returned no garages, keeping previous list with size of: " + oldValue.size());
+                return oldValue;
+            }
+            return copyOf(garageDtoList);
+        }
+
+        private List<GarageDto> copyOf(List<GarageDto> garageDtoList) {
+            if (garageDtoList.size() > maxGarages) {
+                LOGGER.warn("Garage catalogue has " + garageDtoList.size() + " garages, more than the expected maximum of " + maxGarages + ", caching it anyway.");
+            }
+            return List.copyOf(garageDtoList);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.frontend.cache;
+
+import com.frontend.domainDto.response.AvailableCarRepairDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable snapshot of the services offered by one garage. Premium makes of every service are lower-cased once and the
+ * prices for a given car make are computed on first request and reused afterwards.
+ */
+public class GarageOffer {
+    private final List<AvailableCarRepairDto> services;
+    private final List<String> premiumMakesPerService;
+    private final Map<String, List<AvailableCarRepairDto>> servicesByMake = new ConcurrentHashMap<>();
+
+    public GarageOffer(List<AvailableCarRepairDto> availableCarRepairDtoList) {
+        this.services = availableCarRepairDtoList.stream()
+                .map(service -> copyWithCost(service, roundCost(service.getCost())))
+                .toList();
+        this.premiumMakesPerService = availableCarRepairDtoList.stream()
+                .map(service -> service.getPremiumMakes() == null ? "" : service.getPremiumMakes().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    public List<AvailableCarRepairDto> getServices() {
+        return services;
+    }
+
+    public List<AvailableCarRepairDto> getServicesForMake(String make) {
+        return servicesByMake.computeIfAbsent(make.toLowerCase(Locale.ROOT), this::priceServicesForMake);
+    }
+
+    public int size() {
+        return services.size();
+    }
+
+    private List<AvailableCarRepairDto> priceServicesForMake(String make) {
+        return IntStream.range(0, services.size())
+                .mapToObj(i -> {
+                    AvailableCarRepairDto service = services.get(i);
+                    // Matched as a substring of the premium makes text, the way prices were always computed.
+                    if (service.getMakeMultiplier() != null && premiumMakesPerService.get(i).contains(make)) {
+                        return copyWithCost(service, roundCost(service.getCost().multiply(service.getMakeMultiplier())));
+                    }
+                    return service;
+                })
+                .toList();
+    }
+
+    private static BigDecimal roundCost(BigDecimal cost) {
+        return cost.setScale(0, RoundingMode.HALF_DOWN);
+    }
+
+    private static AvailableCarRepairDto copyWithCost(AvailableCarRepairDto service, BigDecimal cost) {
+        return new AvailableCarRepairDto(
+                service.getId(),
+                service.getName(),
+                service.getDescription(),
+                cost,
+                service.getRepairTimeInMinutes(),
+                service.getPremiumMakes(),
+                service.getMakeMultiplier());
+    }
+}
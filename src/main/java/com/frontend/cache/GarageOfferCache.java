@@ -0,0 +1,77 @@
+package com.frontend.cache;
+
+import com.frontend.client.AvailableCarRepairClient;
+import com.frontend.config.BackgroundTasks;
+import com.frontend.config.CacheConfig;
+import com.frontend.domainDto.response.AvailableCarRepairDto;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Component
+public class GarageOfferCache implements MeterBinder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GarageOfferCache.class);
+    private static final GarageOffer EMPTY_OFFER = new GarageOffer(List.of());
+    private final LoadingCache<Long, GarageOffer> cache;
+    private final Executor backgroundExecutor;
+
+    public GarageOfferCache(AvailableCarRepairClient availableCarRepairClient, CacheConfig cacheConfig, ThreadPoolTaskExecutor backgroundExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getOfferMaxGarages())
+                .expireAfterWrite(cacheConfig.getOfferTtl())
+                .refreshAfterWrite(cacheConfig.getOfferRefreshAfter())
+                .executor(backgroundExecutor)
+                .recordStats()
+                .build(new GarageOfferLoader(availableCarRepairClient));
+    }
+
+    public GarageOffer getOffer(Long garageId) {
+        return Optional.ofNullable(cache.get(garageId)).orElse(EMPTY_OFFER);
+    }
+
+    public CompletableFuture<Void> prefetch(Long garageId) {
+        return BackgroundTasks.runAsync(() -> cache.get(garageId), backgroundExecutor);
+    }
+
+    public void invalidateAll() {
+        LOGGER.info("Invalidating all cached garage offers.");
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "garage-offers");
+    }
+
+    private record GarageOfferLoader(AvailableCarRepairClient availableCarRepairClient) implements CacheLoader<Long, GarageOffer> {
+
+        @Override
+        public GarageOffer load(Long garageId) {
+            List<AvailableCarRepairDto> availableCarRepairDtoList = availableCarRepairClient.getALlAvailableServices(garageId);
+            return availableCarRepairDtoList.isEmpty() ? null : new GarageOffer(availableCarRepairDtoList);
+        }
+
+        @Override
+        public GarageOffer reload(Long garageId, GarageOffer oldValue) {
+            List<AvailableCarRepairDto> availableCarRepairDtoList = availableCarRepairClient.getALlAvailableServices(garageId);
+            if (availableCarRepairDtoList.isEmpty()) {
+                LOGGER.warn("Offer refresh for garage with id: " + garageId + " returned no services, keeping previous offer.");
+                return oldValue;
+            }
+            return new GarageOffer(availableCarRepairDtoList);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.frontend.cache;
+
+import com.frontend.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps users loaded for authentication for a short time, so a login only costs the token request to the backend.
+ * A failed authentication against a cached user is retried by the provider with a freshly loaded one.
+ */
+@Component
+public class LoginUserCache implements UserCache, MeterBinder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginUserCache.class);
+    private final Cache<String, UserDetails> cache;
+
+    public LoginUserCache(CacheConfig cacheConfig) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getLoginUserMaxUsers())
+                .expireAfterWrite(cacheConfig.getLoginUserTtl())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        LOGGER.info("Evicting cached login data of user: " + username);
+        cache.invalidate(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "login-users");
+    }
+}
@@ -0,0 +1,42 @@
+package com.frontend.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets an operator drop the application-wide reference data caches once the backend data changed, instead of waiting
+ * for them to expire. A POST to /actuator/referencedata/garages reloads the garage catalogue in the background while the
+ * old one is still served, a DELETE to /actuator/referencedata/{cache} evicts garages, garage-offers or car-reference-data.
+ */
+@Component
+@Endpoint(id = "referencedata")
+@RequiredArgsConstructor
+public class ReferenceDataEndpoint {
+    private static final String GARAGES = "garages";
+    private final GarageCache garageCache;
+    private final GarageOfferCache garageOfferCache;
+    private final CarReferenceDataCache carReferenceDataCache;
+
+    @WriteOperation
+    public void refresh(@Selector String cache) {
+        if (!GARAGES.equals(cache)) {
+            throw new InvalidEndpointRequestException("Only the garages cache can be refreshed, not: " + cache, "Unknown cache");
+        }
+        garageCache.refresh();
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String cache) {
+        switch (cache) {
+            case GARAGES -> garageCache.invalidate();
+            case "garage-offers" -> garageOfferCache.invalidateAll();
+            case "car-reference-data" -> carReferenceDataCache.invalidate();
+            default -> throw new InvalidEndpointRequestException("Unknown cache: " + cache, "Unknown cache");
+        }
+    }
+}
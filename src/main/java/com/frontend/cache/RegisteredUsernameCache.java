@@ -0,0 +1,42 @@
+package com.frontend.cache;
+
+import com.frontend.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers "is this username taken" without the backend where it can, recent backend answers are kept for a short time.
+ * Anything else, and every final check before registering, still goes to the backend.
+ */
+@Component
+public class RegisteredUsernameCache implements MeterBinder {
+    private final Cache<String, Boolean> cache;
+
+    public RegisteredUsernameCache(CacheConfig cacheConfig) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getRegisteredUsernameMaxEntries())
+                .expireAfterWrite(cacheConfig.getRegisteredUsernameTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns whether the username is registered as far as known locally, or null if only the backend can tell.
+     */
+    public Boolean getIfKnown(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    public void put(String username, boolean registered) {
+        cache.put(username, registered);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "registered-usernames");
+    }
+}
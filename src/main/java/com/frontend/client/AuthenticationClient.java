@@ -7,6 +7,9 @@ import com.frontend.domainDto.response.JwtTokenResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -35,6 +38,24 @@ public class AuthenticationClient {
         }
     }
 
+    public JwtTokenResponse refreshToken(String token) {
+        try {
+            HttpHeaders header = new HttpHeaders();
+            header.setBearerAuth(token);
+            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
+
+            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getAuthenticationApiEndpoint() + "/refresh")
+                    .build()
+                    .encode()
+                    .toUri();
+
+            return restTemplate.exchange(url, HttpMethod.POST, requestEntity, JwtTokenResponse.class).getBody();
+        } catch (RestClientException e) {
+            LOGGER.error(e.getMessage());
+            return null;
+        }
+    }
+
     public void registerUser(RegisterUserDto request) {
         try {
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getAuthenticationApiEndpoint() + "/register")
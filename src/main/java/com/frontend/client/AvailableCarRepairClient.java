@@ -2,12 +2,10 @@ package com.frontend.client;
 
 import com.frontend.config.BackendConfig;
 import com.frontend.domainDto.response.AvailableCarRepairDto;
-import com.vaadin.flow.server.VaadinSession;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -31,25 +29,15 @@ public class AvailableCarRepairClient {
 
     public List<AvailableCarRepairDto> getALlAvailableServices(Long garageId) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getAvailableCarServiceApiEndpoint() + "/" + garageId)
                     .build()
                     .encode()
                     .toUri();
-            ResponseEntity<AvailableCarRepairDto[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, AvailableCarRepairDto[].class);
+            ResponseEntity<AvailableCarRepairDto[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, AvailableCarRepairDto[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new AvailableCarRepairDto[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
             return new ArrayList<>();
         }
     }
-
-    private HttpHeaders createJwtHeader() {
-        String jwtToken = VaadinSession.getCurrent().getAttribute("jwt").toString();
-        HttpHeaders header = new HttpHeaders();
-        header.set("Authorization", "Bearer " + jwtToken);
-        return header;
-    }
 }
@@ -1,12 +1,11 @@
 package com.frontend.client;
 
 import com.frontend.config.BackendConfig;
-import com.vaadin.flow.server.VaadinSession;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -17,9 +16,9 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Optional.ofNullable;
 
@@ -32,9 +31,6 @@ public class BookingClient {
 
     public List<LocalTime> getAvailableBookingTimes(LocalDate date, int repairDuration, Long garageId) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getBookingApiEndpoint() + "/available-times")
                     .queryParam("date", date.toString())
                     .queryParam("repair-duration", repairDuration)
@@ -43,19 +39,16 @@ public class BookingClient {
                     .encode()
                     .toUri();
 
-            ResponseEntity<LocalTime[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, LocalTime[].class);
+            ResponseEntity<LocalTime[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, LocalTime[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new LocalTime[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
-            return new ArrayList<>();
+            return null;
         }
     }
 
     public List<LocalTime> getAvailableBookingTimes(LocalDate selectedNewDate, Long carServiceId) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getBookingApiEndpoint() + "/available-times")
                     .queryParam("date", selectedNewDate.toString())
                     .queryParam("car-service-id", carServiceId)
@@ -63,19 +56,35 @@ public class BookingClient {
                     .encode()
                     .toUri();
 
-            ResponseEntity<LocalTime[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, LocalTime[].class);
+            ResponseEntity<LocalTime[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, LocalTime[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new LocalTime[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
-            return new ArrayList<>();
+            return null;
         }
     }
 
-    public void saveBooking(List<Long> selectedServiceIdList, LocalDate date, LocalTime startHour, Long garageId, Long carId, int repairDuration) {
+    public Map<LocalDate, List<LocalTime>> getAvailableBookingCalendar(LocalDate from, LocalDate to, int repairDuration, Long garageId) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
+            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getBookingApiEndpoint() + "/available-times/calendar")
+                    .queryParam("from", from.toString())
+                    .queryParam("to", to.toString())
+                    .queryParam("repair-duration", repairDuration)
+                    .queryParam("garage-id", garageId)
+                    .build()
+                    .encode()
+                    .toUri();
 
+            ResponseEntity<Map<LocalDate, List<LocalTime>>> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, new ParameterizedTypeReference<>() {});
+            return response.getBody();
+        } catch (RestClientException e) {
+            LOGGER.warn("Availability calendar not available, falling back to daily lookups: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean saveBooking(List<Long> selectedServiceIdList, LocalDate date, LocalTime startHour, Long garageId, Long carId, int repairDuration) {
+        try {
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getBookingApiEndpoint())
                     .queryParam("service-id", selectedServiceIdList)
                     .queryParam("date", date.toString())
@@ -87,17 +96,16 @@ public class BookingClient {
                     .encode()
                     .toUri();
 
-            restTemplate.exchange(url, HttpMethod.POST, requestEntity, Void.class);
+            restTemplate.exchange(url, HttpMethod.POST, HttpEntity.EMPTY, Void.class);
+            return true;
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
+            return false;
         }
     }
 
-    public void updateBooking(Long bookingId, LocalDate selectedNewDate, LocalTime selectedNewStartTime) {
+    public boolean updateBooking(Long bookingId, LocalDate selectedNewDate, LocalTime selectedNewStartTime) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getBookingApiEndpoint() + "/" + bookingId)
                     .queryParam("date", selectedNewDate.toString())
                     .queryParam("start-hour", selectedNewStartTime)
@@ -105,16 +113,11 @@ public class BookingClient {
                     .encode()
                     .toUri();
 
-            restTemplate.exchange(url, HttpMethod.PUT, requestEntity, Void.class);
+            restTemplate.exchange(url, HttpMethod.PUT, HttpEntity.EMPTY, Void.class);
+            return true;
         } catch (RestClientException e) {
             LOGGER.info(e.getMessage(), e);
+            return false;
         }
     }
-
-    private HttpHeaders createJwtHeader() {
-        String jwtToken = VaadinSession.getCurrent().getAttribute("jwt").toString();
-        HttpHeaders header = new HttpHeaders();
-        header.set("Authorization", "Bearer " + jwtToken);
-        return header;
-    }
 }
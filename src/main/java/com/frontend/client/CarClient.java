@@ -7,14 +7,12 @@ import com.frontend.domainDto.request.CarCreateDto;
 import com.frontend.domainDto.response.CarDto;
 import com.frontend.domainDto.response.MakeDto;
 import com.frontend.domainDto.response.ModelDto;
-import com.vaadin.flow.server.VaadinSession;
 
 import lombok.AllArgsConstructor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -36,27 +34,23 @@ public class CarClient {
 
     public List<CarDto> getCarsForGivenUsername(String username) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarApiEndpoint())
                     .queryParam("username", username)
                     .build()
                     .encode()
                     .toUri();
 
-            ResponseEntity<CarDto[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, CarDto[].class);
+            ResponseEntity<CarDto[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, CarDto[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new CarDto[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
-            return new ArrayList<>();
+            return null;
         }
     }
 
-    public void saveCar(CarCreateDto carCreateDto, String username) {
+    public boolean saveCar(CarCreateDto carCreateDto, String username) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<CarCreateDto> requestEntity = new HttpEntity<>(carCreateDto, header);
+            HttpEntity<CarCreateDto> requestEntity = new HttpEntity<>(carCreateDto);
 
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarApiEndpoint())
                     .queryParam("username", username)
@@ -65,31 +59,31 @@ public class CarClient {
                     .toUri();
 
             restTemplate.exchange(url, HttpMethod.POST, requestEntity, Void.class);
+            return true;
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
+            return false;
         }
     }
 
-    public void deleteCar(Long carId) {
+    public boolean deleteCar(Long carId) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarApiEndpoint() + "/" + carId)
                     .build()
                     .encode()
                     .toUri();
 
-            restTemplate.exchange(url, HttpMethod.DELETE, requestEntity, Void.class);
+            restTemplate.exchange(url, HttpMethod.DELETE, HttpEntity.EMPTY, Void.class);
+            return true;
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
+            return false;
         }
     }
 
-    public void updateCar(CarCreateDto carCreateDto) {
+    public boolean updateCar(CarCreateDto carCreateDto) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<CarCreateDto> requestEntity = new HttpEntity<>(carCreateDto, header);
+            HttpEntity<CarCreateDto> requestEntity = new HttpEntity<>(carCreateDto);
 
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarApiEndpoint())
                     .build()
@@ -97,29 +91,21 @@ public class CarClient {
                     .toUri();
 
             restTemplate.exchange(url, HttpMethod.PUT, requestEntity, Void.class);
+            return true;
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
+            return false;
         }
     }
 
-    private HttpHeaders createJwtHeader() {
-        String jwtToken = VaadinSession.getCurrent().getAttribute("jwt").toString();
-        HttpHeaders header = new HttpHeaders();
-        header.set("Authorization", "Bearer " + jwtToken);
-        return header;
-    }
-
     public List<MakeDto> getCarMakes() {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarApiEndpoint() + "/makes")
                                           .build()
                                           .encode()
                                           .toUri();
 
-            ResponseEntity<MakeDto[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, MakeDto[].class);
+            ResponseEntity<MakeDto[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, MakeDto[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new MakeDto[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
@@ -129,16 +115,13 @@ public class CarClient {
 
     public List<ModelDto> getCarModels(String make) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarApiEndpoint() + "/models")
                                           .queryParam("make", make)
                                           .build()
                                           .encode()
                                           .toUri();
 
-            ResponseEntity<ModelDto[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, ModelDto[].class);
+            ResponseEntity<ModelDto[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, ModelDto[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new ModelDto[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
@@ -3,12 +3,10 @@ package com.frontend.client;
 import com.frontend.config.BackendConfig;
 import com.frontend.domainDto.response.CarDto;
 import com.frontend.domainDto.response.CarRepairDto;
-import com.vaadin.flow.server.VaadinSession;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -17,7 +15,6 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,43 +29,85 @@ public class CarRepairClient {
 
     public List<CarRepairDto> getCarServices(String username) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarServiceApiEndpoint())
                     .queryParam("username", username)
                     .build()
                     .encode()
                     .toUri();
 
-            ResponseEntity<CarRepairDto[]> response = restTemplate.exchange(url, HttpMethod.GET, requestEntity, CarRepairDto[].class);
+            ResponseEntity<CarRepairDto[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, CarRepairDto[].class);
             return Arrays.asList(ofNullable(response.getBody()).orElse(new CarRepairDto[0]));
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
-            return new ArrayList<>();
+            return null;
         }
     }
 
-    public void deleteService(Long serviceId) {
+    public List<CarRepairDto> getCarServicesPage(String username, String status, int page, int size, String sort) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
+            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarServiceApiEndpoint() + "/page")
+                    .queryParam("username", username)
+                    .queryParam("status", status)
+                    .queryParam("page", page)
+                    .queryParam("size", size)
+                    .queryParam("sort", sort)
+                    .build()
+                    .encode()
+                    .toUri();
 
-            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarServiceApiEndpoint() + "/" + serviceId)
+            ResponseEntity<CarRepairDto[]> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, CarRepairDto[].class);
+            return Arrays.asList(ofNullable(response.getBody()).orElse(new CarRepairDto[0]));
+        } catch (RestClientException e) {
+            LOGGER.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    public long countCarServices(String username, String status) {
+        try {
+            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarServiceApiEndpoint() + "/count")
+                    .queryParam("username", username)
+                    .queryParam("status", status)
                     .build()
                     .encode()
                     .toUri();
 
-            restTemplate.exchange(url, HttpMethod.DELETE, requestEntity, Void.class);
+            ResponseEntity<Long> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, Long.class);
+            return ofNullable(response.getBody()).orElse(0L);
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage(), e);
+            return 0;
         }
     }
 
-    private HttpHeaders createJwtHeader() {
-        String jwtToken = VaadinSession.getCurrent().getAttribute("jwt").toString();
-        HttpHeaders header = new HttpHeaders();
-        header.set("Authorization", "Bearer " + jwtToken);
-        return header;
+    public Long countVehicleCarServices(Long vehicleId) {
+        try {
+            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarServiceApiEndpoint() + "/count")
+                    .queryParam("vehicle-id", vehicleId)
+                    .build()
+                    .encode()
+                    .toUri();
+
+            ResponseEntity<Long> response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, Long.class);
+            return ofNullable(response.getBody()).orElse(0L);
+        } catch (RestClientException e) {
+            LOGGER.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    public boolean deleteService(Long serviceId) {
+        try {
+            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getCarServiceApiEndpoint() + "/" + serviceId)
+                    .build()
+                    .encode()
+                    .toUri();
+
+            restTemplate.exchange(url, HttpMethod.DELETE, HttpEntity.EMPTY, Void.class);
+            return true;
+        } catch (RestClientException e) {
+            LOGGER.error(e.getMessage(), e);
+            return false;
+        }
     }
 }
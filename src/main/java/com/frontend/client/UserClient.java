@@ -3,17 +3,16 @@ package com.frontend.client;
 import com.frontend.config.BackendConfig;
 import com.frontend.domainDto.request.RegisterUserDto;
 import com.frontend.domainDto.request.UpdateUserDto;
-import com.frontend.domainDto.response.PasswordDto;
 import com.frontend.domainDto.response.UserDto;
 import com.frontend.domainDto.response.UserLoginDto;
-import com.vaadin.flow.server.VaadinSession;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -44,16 +43,13 @@ public class UserClient {
 
     public UserDto getUser(String username) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getUserApiEndpoint() + "/information")
                     .queryParam("username", username)
                     .build()
                     .encode()
                     .toUri();
 
-            return restTemplate.exchange(url, HttpMethod.GET, requestEntity, UserDto.class).getBody();
+            return restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, UserDto.class).getBody();
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage());
             return null;
@@ -71,48 +67,26 @@ public class UserClient {
             return restTemplate.getForObject(url, Boolean.class);
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage());
-            return true;
-        }
-    }
-
-    public PasswordDto getPassword(String username) {
-        try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<Void> requestEntity = new HttpEntity<>(header);
-
-            URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getUserApiEndpoint() + "/pass")
-                    .queryParam("username", username)
-                    .build()
-                    .encode()
-                    .toUri();
-
-            return restTemplate.exchange(url, HttpMethod.GET, requestEntity, PasswordDto.class).getBody();
-        } catch (RestClientException e) {
-            LOGGER.error(e.getMessage());
-            return new PasswordDto();
+            return null;
         }
     }
 
-    public void updateUser(UpdateUserDto updateUserDto) {
+    public UserDto updateUser(UpdateUserDto updateUserDto) {
         try {
-            HttpHeaders header = createJwtHeader();
-            HttpEntity<UpdateUserDto> requestEntity = new HttpEntity<>(updateUserDto, header);
+            HttpEntity<UpdateUserDto> requestEntity = new HttpEntity<>(updateUserDto);
 
             URI url = UriComponentsBuilder.fromHttpUrl(backendConfig.getUserApiEndpoint())
                     .build()
                     .encode()
                     .toUri();
 
-            restTemplate.exchange(url, HttpMethod.PUT, requestEntity, Void.class).getBody();
+            return restTemplate.exchange(url, HttpMethod.PUT, requestEntity, UserDto.class).getBody();
+        } catch (HttpClientErrorException.Forbidden e) {
+            LOGGER.info("Current password of user: " + updateUserDto.getUsername() + " did not match, user not updated.");
+            throw new BadCredentialsException("Current password is wrong.", e);
         } catch (RestClientException e) {
             LOGGER.error(e.getMessage());
+            return null;
         }
     }
-
-    private HttpHeaders createJwtHeader() {
-        String jwtToken = VaadinSession.getCurrent().getAttribute("jwt").toString();
-        HttpHeaders header = new HttpHeaders();
-        header.set("Authorization", "Bearer " + jwtToken);
-        return header;
-    }
 }
@@ -4,6 +4,9 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Getter
 @Component
 public class BackendConfig {
@@ -27,6 +30,64 @@ public class BackendConfig {
     private String carApiMakesEndpoint;
     @Value("${weather-api.api.endpoint}")
     private String weatherApiEndpoint;
+    @Value("${backend.http.pool.max-total}")
+    private int httpPoolMaxTotal;
+    @Value("${backend.http.pool.max-per-route}")
+    private int httpPoolMaxPerRoute;
+    @Value("${backend.http.connect-timeout}")
+    private Duration httpConnectTimeout;
+    @Value("${backend.http.connection-request-timeout}")
+    private Duration httpConnectionRequestTimeout;
+    @Value("${backend.http.read-timeout}")
+    private Duration httpReadTimeout;
+    @Value("${backend.http.idle-timeout}")
+    private Duration httpIdleTimeout;
+    @Value("${backend.http.keep-alive}")
+    private Duration httpKeepAlive;
+    @Value("${backend.async.core-pool-size}")
+    private int asyncCorePoolSize;
+    @Value("${backend.async.max-pool-size}")
+    private int asyncMaxPoolSize;
+    @Value("${backend.async.queue-capacity}")
+    private int asyncQueueCapacity;
+    @Value("${backend.prefetch.pool-size}")
+    private int prefetchPoolSize;
+    @Value("${backend.prefetch.queue-capacity}")
+    private int prefetchQueueCapacity;
+    @Value("${car-repair.status.poll-interval}")
+    private Duration carRepairStatusPollInterval;
+    @Value("${car-repair.status.refresh-interval}")
+    private Duration carRepairStatusRefreshInterval;
+    @Value("${authentication.token.refresh-ahead}")
+    private Duration tokenRefreshAhead;
+    @Value("${authentication.token.refresh-retry}")
+    private Duration tokenRefreshRetry;
+    @Value("${authentication.token.idle-timeout}")
+    private Duration tokenIdleTimeout;
+    @Value("${backend.resilience.circuit-breaker.sliding-window}")
+    private int circuitBreakerSlidingWindow;
+    @Value("${backend.resilience.circuit-breaker.minimum-calls}")
+    private int circuitBreakerMinimumCalls;
+    @Value("${backend.resilience.circuit-breaker.failure-rate-threshold}")
+    private int circuitBreakerFailureRateThreshold;
+    @Value("${backend.resilience.circuit-breaker.open-duration}")
+    private Duration circuitBreakerOpenDuration;
+    @Value("${backend.resilience.circuit-breaker.half-open-calls}")
+    private int circuitBreakerHalfOpenCalls;
+    @Value("${backend.resilience.bulkhead.max-concurrent-calls}")
+    private int bulkheadMaxConcurrentCalls;
+    @Value("#{${backend.resilience.bulkhead.route-limits}}")
+    private Map<String, Integer> bulkheadRouteLimits;
+    @Value("${backend.resilience.bulkhead.max-wait}")
+    private Duration bulkheadMaxWait;
+    @Value("${backend.resilience.retry.max-attempts}")
+    private int retryMaxAttempts;
+    @Value("${backend.resilience.retry.initial-backoff}")
+    private Duration retryInitialBackoff;
+    @Value("${backend.resilience.retry.max-backoff}")
+    private Duration retryMaxBackoff;
+    @Value("${backend.resilience.retry.budget-ratio}")
+    private double retryBudgetRatio;
 
 
 
@@ -0,0 +1,49 @@
+package com.frontend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Hands work to the background executor. The executor aborts instead of running work on the calling thread once its
+ * queue is full, a rejected task completes its future exceptionally or, with nothing to complete, is logged and dropped.
+ */
+public final class BackgroundTasks {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackgroundTasks.class);
+
+    private BackgroundTasks() {
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Background executor is saturated, rejecting task.");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public static CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+        return supplyAsync(() -> {
+            task.run();
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Runs the task in the background unless the executor is saturated, returns whether it was accepted.
+     */
+    public static boolean execute(Runnable task, Executor executor, String description) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Background executor is saturated, skipping: " + description);
+            return false;
+        }
+    }
+}
@@ -1,13 +1,141 @@
 package com.frontend.config;
 
+import com.frontend.metrics.BackendMetricsInterceptor;
+import com.frontend.resilience.BackendResilienceInterceptor;
+import com.frontend.security.AuthContextHolder;
+import com.frontend.security.AuthContextInterceptor;
+import com.frontend.security.AuthTokenRegistry;
+import com.frontend.tracing.BackendClientObservationConvention;
+import com.frontend.tracing.ObservationPropagation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class BeanConfiguration {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient backendHttpClient, AuthTokenRegistry authTokenRegistry, BackendConfig backendConfig,
+                                     MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(backendHttpClient));
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setObservationConvention(new BackendClientObservationConvention());
+        restTemplate.getInterceptors().add(new BackendMetricsInterceptor(meterRegistry));
+        restTemplate.getInterceptors().add(new AuthContextInterceptor(authTokenRegistry));
+        restTemplate.getInterceptors().add(new BackendResilienceInterceptor(backendConfig));
+        return restTemplate;
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager backendConnectionManager(BackendConfig backendConfig) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(backendConfig.getHttpPoolMaxTotal())
+                .setMaxConnPerRoute(backendConfig.getHttpPoolMaxPerRoute())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.ofMilliseconds(backendConfig.getHttpReadTimeout().toMillis()))
+                        .setSoKeepAlive(true)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient backendHttpClient(PoolingHttpClientConnectionManager backendConnectionManager, BackendConfig backendConfig) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(backendConfig.getHttpConnectTimeout().toMillis()))
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(backendConfig.getHttpConnectionRequestTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(backendConfig.getHttpReadTimeout().toMillis()))
+                .build();
+        TimeValue keepAlive = TimeValue.ofMilliseconds(backendConfig.getHttpKeepAlive().toMillis());
+
+        return HttpClients.custom()
+                .setConnectionManager(backendConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return announced.compareTo(keepAlive) < 0 ? announced : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(backendConfig.getHttpIdleTimeout().toMillis()))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public ThreadPoolTaskExecutor backgroundExecutor(BackendConfig backendConfig, ObservationRegistry observationRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // The tasks mostly wait on backend calls, so threads are cheap and a long queue only delays lookups users wait
+        // for. The short queue fills quickly, the pool then grows towards the bulkhead limits of all routes together.
+        executor.setThreadNamePrefix("backend-async-");
+        executor.setCorePoolSize(backendConfig.getAsyncCorePoolSize());
+        executor.setMaxPoolSize(backendConfig.getAsyncMaxPoolSize());
+        executor.setQueueCapacity(backendConfig.getAsyncQueueCapacity());
+        // Rejected work must not fall back to the calling thread, which may be a request or the scheduler thread.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(task -> AuthContextHolder.propagate(ObservationPropagation.propagate(observationRegistry, task)));
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor prefetchExecutor(BackendConfig backendConfig, ObservationRegistry observationRegistry) {
+        // Speculative loads get their own few threads so they never queue in front of lookups a user waits for.
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("backend-prefetch-");
+        executor.setCorePoolSize(backendConfig.getPrefetchPoolSize());
+        executor.setMaxPoolSize(backendConfig.getPrefetchPoolSize());
+        executor.setQueueCapacity(backendConfig.getPrefetchQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(task -> AuthContextHolder.propagate(ObservationPropagation.propagate(observationRegistry, task)));
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler backgroundScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("backend-scheduler-");
+        scheduler.setPoolSize(1);
+        return scheduler;
+    }
+
+    @Bean
+    public ObservationPredicate skipSecurityFilterObservations() {
+        // Spring Security 6.0.2 fails closing its filter chain scopes once a tracer is present.
+        return (name, context) -> !name.startsWith("spring.security.");
+    }
+
+    @Bean
+    public MeterBinder backendConnectionPoolMetrics(PoolingHttpClientConnectionManager backendConnectionManager) {
+        return registry -> {
+            Gauge.builder("backend.http.pool.leased", backendConnectionManager, manager -> manager.getTotalStats().getLeased())
+                    .description("Connections to the backend currently in use")
+                    .register(registry);
+            Gauge.builder("backend.http.pool.available", backendConnectionManager, manager -> manager.getTotalStats().getAvailable())
+                    .description("Idle keep-alive connections to the backend")
+                    .register(registry);
+            Gauge.builder("backend.http.pool.pending", backendConnectionManager, manager -> manager.getTotalStats().getPending())
+                    .description("Requests waiting for a backend connection")
+                    .register(registry);
+            Gauge.builder("backend.http.pool.max", backendConnectionManager, manager -> manager.getTotalStats().getMax())
+                    .description("Maximum number of backend connections")
+                    .register(registry);
+        };
     }
 }
@@ -0,0 +1,50 @@
+package com.frontend.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class CacheConfig {
+    @Value("${garage.cache.ttl}")
+    private Duration garageTtl;
+    @Value("${garage.cache.refresh-after}")
+    private Duration garageRefreshAfter;
+    @Value("${garage.cache.max-garages}")
+    private long garageMaxGarages;
+    @Value("${car-api.cache.snapshot-location}")
+    private String carReferenceSnapshotLocation;
+    @Value("${car-api.cache.ttl}")
+    private Duration carReferenceTtl;
+    @Value("${car-api.cache.refresh-after}")
+    private Duration carReferenceRefreshAfter;
+    @Value("${car-api.cache.max-makes}")
+    private long carReferenceMaxMakes;
+    @Value("${offer.cache.ttl}")
+    private Duration offerTtl;
+    @Value("${offer.cache.refresh-after}")
+    private Duration offerRefreshAfter;
+    @Value("${offer.cache.max-garages}")
+    private long offerMaxGarages;
+    @Value("${forecast.cache.ttl}")
+    private Duration forecastTtl;
+    @Value("${forecast.cache.max-entries}")
+    private long forecastMaxEntries;
+    @Value("${booking.calendar.ttl}")
+    private Duration bookingCalendarTtl;
+    @Value("${booking.available-times.ttl}")
+    private Duration availableTimesTtl;
+    @Value("${booking.available-times.max-entries}")
+    private long availableTimesMaxEntries;
+    @Value("${user.cache.ttl}")
+    private Duration loginUserTtl;
+    @Value("${user.cache.max-users}")
+    private long loginUserMaxUsers;
+    @Value("${user.registered.cache.ttl}")
+    private Duration registeredUsernameTtl;
+    @Value("${user.registered.cache.max-entries}")
+    private long registeredUsernameMaxEntries;
+}
@@ -0,0 +1,20 @@
+package com.frontend.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class PasswordConfig {
+    @Value("${password.bcrypt.strength}")
+    private int bcryptStrength;
+    @Value("${password.hashing.pool-size}")
+    private int hashingPoolSize;
+    @Value("${password.hashing.queue-capacity}")
+    private int hashingQueueCapacity;
+    @Value("${password.hashing.wait-timeout}")
+    private Duration hashingWaitTimeout;
+}
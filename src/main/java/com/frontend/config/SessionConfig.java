@@ -0,0 +1,21 @@
+package com.frontend.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class SessionConfig {
+    @Value("${session.footprint.sample-interval}")
+    private Duration footprintSampleInterval;
+    @Value("${session.footprint.max-objects}")
+    private int footprintMaxObjects;
+    @Value("${session.memory.budget}")
+    private DataSize memoryBudget;
+    @Value("${session.memory.idle-ui-timeout}")
+    private Duration idleUiTimeout;
+}
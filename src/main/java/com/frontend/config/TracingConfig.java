@@ -0,0 +1,12 @@
+package com.frontend.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class TracingConfig {
+    @Value("${tracing.in-memory.max-spans}")
+    private int inMemoryMaxSpans;
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Data
 @AllArgsConstructor
@@ -28,7 +29,12 @@ public class UpdateUserDto {
     private String username;
 
     @NotBlank
+    @ToString.Exclude
     private String password;
 
+    @ToString.Exclude
+    private String currentPassword;
+
+    @ToString.Exclude
     private String newPassword;
 }
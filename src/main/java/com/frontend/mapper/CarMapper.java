@@ -2,6 +2,8 @@ package com.frontend.mapper;
 
 import com.frontend.domainDto.request.CarCreateDto;
 import com.frontend.domainDto.response.CarDto;
+import com.frontend.domainDto.response.MakeDto;
+import com.frontend.domainDto.response.ModelDto;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,4 +22,13 @@ public class CarMapper {
                 ))
                 .toList();
     }
+
+    public CarDto mapToCarDto(CarCreateDto carCreateDto) {
+        return new CarDto(
+                carCreateDto.getId(),
+                new ModelDto(null, carCreateDto.getModel(), new MakeDto(null, carCreateDto.getMake()), carCreateDto.getType()),
+                carCreateDto.getYear(),
+                carCreateDto.getEngine()
+        );
+    }
 }
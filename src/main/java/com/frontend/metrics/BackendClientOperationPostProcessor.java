@@ -0,0 +1,34 @@
+package com.frontend.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the beans of the client package so every backend exchange they make can be attributed to the client method
+ * that made it.
+ */
+@Component
+public class BackendClientOperationPostProcessor implements BeanPostProcessor {
+    private static final String CLIENT_PACKAGE = "com.frontend.client";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!CLIENT_PACKAGE.equals(bean.getClass().getPackageName())) {
+            return bean;
+        }
+        String client = bean.getClass().getSimpleName();
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            BackendOperation previous = BackendOperation.enter(new BackendOperation(client, invocation.getMethod().getName()));
+            try {
+                return invocation.proceed();
+            } finally {
+                BackendOperation.restore(previous);
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+}
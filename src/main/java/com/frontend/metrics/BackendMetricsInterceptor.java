@@ -0,0 +1,59 @@
+package com.frontend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Times every backend exchange and counts the failed ones, tagged with the client operation that made it. Registered
+ * as the first interceptor, so the time includes waiting for a bulkhead and retries.
+ */
+@RequiredArgsConstructor
+public class BackendMetricsInterceptor implements ClientHttpRequestInterceptor {
+    private static final String REQUESTS_METRIC = "backend.client.requests";
+    private static final String ERRORS_METRIC = "backend.client.errors";
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BackendOperation operation = BackendOperation.current();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "none";
+        String exception = "none";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Tags tags = Tags.of(
+                    "client", operation.client(),
+                    "operation", operation.operation(),
+                    "method", request.getMethod().name(),
+                    "status", status);
+            sample.stop(Timer.builder(REQUESTS_METRIC)
+                    .description("Exchanges with the backend")
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+            if (!"none".equals(exception) || status.startsWith("4") || status.startsWith("5")) {
+                Counter.builder(ERRORS_METRIC)
+                        .description("Backend exchanges that failed or were answered with an error status")
+                        .tags(tags)
+                        .tag("exception", exception)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.frontend.metrics;
+
+/**
+ * Client class and method on whose behalf the current thread talks to the backend.
+ */
+public record BackendOperation(String client, String operation) {
+    public static final BackendOperation UNKNOWN = new BackendOperation("none", "none");
+    private static final ThreadLocal<BackendOperation> CURRENT = new ThreadLocal<>();
+
+    public static BackendOperation current() {
+        BackendOperation operation = CURRENT.get();
+        return operation == null ? UNKNOWN : operation;
+    }
+
+    static BackendOperation enter(BackendOperation operation) {
+        BackendOperation previous = CURRENT.get();
+        CURRENT.set(operation);
+        return previous;
+    }
+
+    static void restore(BackendOperation previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
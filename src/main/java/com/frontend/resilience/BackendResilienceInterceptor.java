@@ -0,0 +1,192 @@
+package com.frontend.resilience;
+
+import com.frontend.config.BackendConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards every backend call with the circuit breaker and bulkhead of its route and retries idempotent calls that
+ * failed before the backend could process them. Registered as the last interceptor, so a retry only repeats the
+ * HTTP exchange itself. A bulkhead permit is held until the response is closed and given back while waiting to
+ * retry. All routes of one backend host share the connections the pool allows per host, limits adding up to more
+ * than that are reported at startup since they no longer keep one route from taking every connection.
+ */
+public class BackendResilienceInterceptor implements ClientHttpRequestInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackendResilienceInterceptor.class);
+    private static final String DEFAULT_ROUTE = "default";
+    private static final int RETRY_BUDGET_BURST = 10;
+    private final BackendConfig backendConfig;
+    private final Map<String, BackendRoute> routesByPrefix;
+    private final BackendRoute defaultRoute;
+
+    public BackendResilienceInterceptor(BackendConfig backendConfig) {
+        this.backendConfig = backendConfig;
+        Map<String, String> routeNames = new LinkedHashMap<>();
+        routeNames.putIfAbsent(backendConfig.getAvailableCarServiceApiEndpoint(), "availableCarService");
+        routeNames.putIfAbsent(backendConfig.getAuthenticationApiEndpoint(), "authentication");
+        routeNames.putIfAbsent(backendConfig.getBookingApiEndpoint(), "booking");
+        routeNames.putIfAbsent(backendConfig.getCarApiEndpoint(), "car");
+        routeNames.putIfAbsent(backendConfig.getCarApiEndpoint() + "/makes", "car-api");
+        routeNames.putIfAbsent(backendConfig.getCarApiEndpoint() + "/models", "car-api");
+        routeNames.putIfAbsent(backendConfig.getCarServiceApiEndpoint(), "carService");
+        routeNames.putIfAbsent(backendConfig.getUserApiEndpoint(), "user");
+        routeNames.putIfAbsent(backendConfig.getGarageApiEndpoint(), "garage");
+        routeNames.putIfAbsent(backendConfig.getGarageWorkTimeApiEndpoint(), "garageWorkTime");
+        routeNames.putIfAbsent(backendConfig.getWeatherApiEndpoint(), "weather-api");
+        Map<String, BackendRoute> routes = new HashMap<>();
+        this.routesByPrefix = new LinkedHashMap<>();
+        routeNames.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, String> route) -> route.getKey().length()).reversed())
+                .forEach(route -> routesByPrefix.put(route.getKey(), routes.computeIfAbsent(route.getValue(), this::createRoute)));
+        this.defaultRoute = createRoute(DEFAULT_ROUTE);
+        checkLimitsAgainstPool(routeNames, routes);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BackendRoute route = routeFor(request.getURI().toString());
+        if (!route.circuitBreaker().tryAcquire()) {
+            throw new BackendUnavailableException("Circuit of backend route: " + route.name() + " is open, request to " + request.getURI().getPath() + " not sent.");
+        }
+        return executeWithRetry(route, request, body, execution);
+    }
+
+    private ClientHttpResponse executeWithRetry(BackendRoute route, HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        boolean idempotent = HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod());
+        route.retryBudget().deposit();
+        int attempt = 1;
+        while (true) {
+            if (!acquireBulkhead(route)) {
+                route.circuitBreaker().onIgnored();
+                throw new BackendUnavailableException("Backend route: " + route.name() + " is at its limit of " + route.bulkheadLimit() + " concurrent calls, request to " + request.getURI().getPath() + " not sent.");
+            }
+            ClientHttpResponse response;
+            boolean unavailable;
+            try {
+                response = execution.execute(request, body);
+            } catch (SocketTimeoutException e) {
+                // The backend may still be working on it, repeating the call would only add to its load.
+                route.bulkhead().release();
+                route.circuitBreaker().onFailure();
+                throw e;
+            } catch (IOException e) {
+                route.bulkhead().release();
+                route.circuitBreaker().onFailure();
+                if (!idempotent || !canRetry(route, attempt)) {
+                    throw e;
+                }
+                LOGGER.warn("Call to backend route: " + route.name() + " failed with: " + e.getMessage() + ", retrying.");
+                backOff(attempt++);
+                continue;
+            } catch (RuntimeException e) {
+                route.bulkhead().release();
+                route.circuitBreaker().onIgnored();
+                throw e;
+            }
+            try {
+                unavailable = isUnavailable(response);
+            } catch (IOException e) {
+                new BulkheadReleasingResponse(response, route.bulkhead()).close();
+                route.circuitBreaker().onFailure();
+                throw e;
+            }
+            if (!unavailable) {
+                route.circuitBreaker().onSuccess();
+                return new BulkheadReleasingResponse(response, route.bulkhead());
+            }
+            route.circuitBreaker().onFailure();
+            if (!idempotent || !canRetry(route, attempt)) {
+                return new BulkheadReleasingResponse(response, route.bulkhead());
+            }
+            LOGGER.warn("Backend route: " + route.name() + " answered with: " + response.getStatusCode().value() + ", retrying.");
+            new BulkheadReleasingResponse(response, route.bulkhead()).close();
+            backOff(attempt++);
+        }
+    }
+
+    private boolean canRetry(BackendRoute route, int attempt) {
+        return attempt < backendConfig.getRetryMaxAttempts()
+                && route.retryBudget().tryWithdraw()
+                && route.circuitBreaker().tryAcquire();
+    }
+
+    private boolean isUnavailable(ClientHttpResponse response) throws IOException {
+        int status = response.getStatusCode().value();
+        return status == HttpStatus.BAD_GATEWAY.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private void backOff(int attempt) throws InterruptedIOException {
+        long maxBackoff = Math.min(backendConfig.getRetryMaxBackoff().toMillis(),
+                backendConfig.getRetryInitialBackoff().toMillis() << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxBackoff + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry backend call.");
+        }
+    }
+
+    private boolean acquireBulkhead(BackendRoute route) {
+        try {
+            return route.bulkhead().tryAcquire(backendConfig.getBulkheadMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private BackendRoute routeFor(String url) {
+        return routesByPrefix.entrySet().stream()
+                .filter(route -> BackendRoute.matches(route.getKey(), url))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultRoute);
+    }
+
+    private BackendRoute createRoute(String name) {
+        int bulkheadLimit = backendConfig.getBulkheadRouteLimits().getOrDefault(name, backendConfig.getBulkheadMaxConcurrentCalls());
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name,
+                backendConfig.getCircuitBreakerSlidingWindow(),
+                backendConfig.getCircuitBreakerMinimumCalls(),
+                backendConfig.getCircuitBreakerFailureRateThreshold(),
+                backendConfig.getCircuitBreakerOpenDuration(),
+                backendConfig.getCircuitBreakerHalfOpenCalls());
+        RetryBudget retryBudget = new RetryBudget(backendConfig.getRetryBudgetRatio(), RETRY_BUDGET_BURST);
+        return new BackendRoute(name, circuitBreaker, new Semaphore(bulkheadLimit), bulkheadLimit, retryBudget);
+    }
+
+    private void checkLimitsAgainstPool(Map<String, String> routeNames, Map<String, BackendRoute> routes) {
+        Map<String, Set<String>> routeNamesByHost = new TreeMap<>();
+        routeNames.forEach((prefix, name) -> routeNamesByHost.computeIfAbsent(URI.create(prefix).getAuthority(), host -> new TreeSet<>()).add(name));
+        routeNamesByHost.forEach((host, names) -> {
+            int limits = names.stream().mapToInt(name -> routes.get(name).bulkheadLimit()).sum();
+            if (limits > backendConfig.getHttpPoolMaxPerRoute()) {
+                LOGGER.warn("Bulkhead limits of backend host: " + host + " add up to " + limits + ", more than the "
+                        + backendConfig.getHttpPoolMaxPerRoute() + " pooled connections per host, a slow route can take every connection.");
+            }
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.frontend.resilience;
+
+import java.util.concurrent.Semaphore;
+
+record BackendRoute(String name, CircuitBreaker circuitBreaker, Semaphore bulkhead, int bulkheadLimit, RetryBudget retryBudget) {
+
+    static boolean matches(String prefix, String url) {
+        if (!url.startsWith(prefix)) {
+            return false;
+        }
+        if (url.length() == prefix.length()) {
+            return true;
+        }
+        char next = url.charAt(prefix.length());
+        return next == '/' || next == '?';
+    }
+}
@@ -0,0 +1,10 @@
+package com.frontend.resilience;
+
+import org.springframework.web.client.RestClientException;
+
+public class BackendUnavailableException extends RestClientException {
+
+    public BackendUnavailableException(String message) {
+        super(message);
+    }
+}
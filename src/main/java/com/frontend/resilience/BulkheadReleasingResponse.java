@@ -0,0 +1,62 @@
+package com.frontend.resilience;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the bulkhead permit of a call until its response is closed, the pooled connection is only given back once the
+ * body has been read.
+ */
+final class BulkheadReleasingResponse implements ClientHttpResponse {
+    private final ClientHttpResponse response;
+    private final Semaphore bulkhead;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    BulkheadReleasingResponse(ClientHttpResponse response, Semaphore bulkhead) {
+        this.response = response;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return response.getStatusCode();
+    }
+
+    @Override
+    @Deprecated
+    public int getRawStatusCode() throws IOException {
+        return response.getStatusCode().value();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return response.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return response.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        return response.getBody();
+    }
+
+    @Override
+    public void close() {
+        try {
+            response.close();
+        } finally {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.frontend.resilience;
+
+/**
+ * Limits retries to a share of the calls made, so retries cannot multiply the load on a backend that is already
+ * struggling. Every call deposits a fraction of a token, every retry withdraws a whole one.
+ */
+final class RetryBudget {
+    private final double depositPerCall;
+    private final double maxTokens;
+    private double tokens;
+
+    RetryBudget(double retryRatio, int maxTokens) {
+        this.depositPerCall = retryRatio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + depositPerCall);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
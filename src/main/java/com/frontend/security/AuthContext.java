@@ -0,0 +1,44 @@
+package com.frontend.security;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Identity of the logged-in user as the backend knows it. Created at login and never modified, so it can be handed to
+ * background threads as is; a token refresh produces a new context with the same login id.
+ */
+@Getter
+public final class AuthContext {
+    private final String loginId;
+    private final String username;
+    private final String token;
+    private final String authorizationHeader;
+    private final Instant expiresAt;
+
+    private AuthContext(String loginId, String username, String token, Instant expiresAt) {
+        this.loginId = loginId;
+        this.username = username;
+        this.token = token;
+        this.authorizationHeader = "Bearer " + token;
+        this.expiresAt = expiresAt;
+    }
+
+    public static AuthContext login(String username, String token, Instant expiresAt) {
+        return new AuthContext(UUID.randomUUID().toString(), username, token, expiresAt);
+    }
+
+    public AuthContext refreshed(String token, Instant expiresAt) {
+        return new AuthContext(loginId, username, token, expiresAt);
+    }
+
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt != null && !instant.isBefore(expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthContext{username='" + username + "', expiresAt=" + expiresAt + "}";
+    }
+}
@@ -0,0 +1,47 @@
+package com.frontend.security;
+
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * Resolves the {@link AuthContext} of the current user. On a Vaadin request thread it is read from the session, on
+ * background threads it is the context captured by {@link #propagate(Runnable)} when the task was submitted.
+ */
+public final class AuthContextHolder {
+    private static final ThreadLocal<AuthContext> CONTEXT = new ThreadLocal<>();
+
+    private AuthContextHolder() {
+    }
+
+    public static AuthContext getContext() {
+        AuthContext context = CONTEXT.get();
+        if (context != null) {
+            return context;
+        }
+        VaadinSession session = VaadinSession.getCurrent();
+        return session == null ? null : session.getAttribute(AuthContext.class);
+    }
+
+    public static void store(VaadinSession session, AuthContext context) {
+        session.setAttribute(AuthContext.class, context);
+    }
+
+    public static Runnable propagate(Runnable task) {
+        return withContext(getContext(), task);
+    }
+
+    public static Runnable withContext(AuthContext context, Runnable task) {
+        return () -> {
+            AuthContext previous = CONTEXT.get();
+            CONTEXT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CONTEXT.remove();
+                } else {
+                    CONTEXT.set(previous);
+                }
+            }
+        };
+    }
+}
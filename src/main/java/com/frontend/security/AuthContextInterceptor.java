@@ -0,0 +1,34 @@
+package com.frontend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class AuthContextInterceptor implements ClientHttpRequestInterceptor {
+    private final AuthTokenRegistry authTokenRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        AuthContext capturedContext = AuthContextHolder.getContext();
+        if (capturedContext == null || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return execution.execute(request, body);
+        }
+        AuthContext context = authTokenRegistry.resolve(capturedContext);
+        if (!authTokenRegistry.isUsable(context)) {
+            throw new ExpiredAuthenticationException("Token of user: " + context.getUsername() + " is no longer valid, request to " + request.getURI().getPath() + " not sent.");
+        }
+        request.getHeaders().set(HttpHeaders.AUTHORIZATION, context.getAuthorizationHeader());
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getStatusCode().value() == HttpStatus.UNAUTHORIZED.value()) {
+            authTokenRegistry.markRejected(context);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,89 @@
+package com.frontend.security;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Latest token of every active login. Sessions and background tasks keep the context they captured at login, the
+ * registry maps it to the most recently refreshed one and remembers tokens the backend has already rejected.
+ */
+@Component
+public class AuthTokenRegistry {
+    private final Map<String, TrackedLogin> logins = new ConcurrentHashMap<>();
+
+    public AuthContext resolve(AuthContext context) {
+        TrackedLogin login = logins.get(context.getLoginId());
+        if (login == null) {
+            return context;
+        }
+        login.lastUsed = Instant.now();
+        return login.context;
+    }
+
+    public boolean isUsable(AuthContext context) {
+        if (context.isExpiredAt(Instant.now())) {
+            return false;
+        }
+        TrackedLogin login = logins.get(context.getLoginId());
+        return login == null || !context.getToken().equals(login.rejectedToken);
+    }
+
+    public void markRejected(AuthContext context) {
+        TrackedLogin login = logins.get(context.getLoginId());
+        if (login != null) {
+            login.rejectedToken = context.getToken();
+        }
+    }
+
+    void register(AuthContext context) {
+        logins.put(context.getLoginId(), new TrackedLogin(context));
+    }
+
+    AuthContext getCurrent(String loginId) {
+        TrackedLogin login = logins.get(loginId);
+        return login == null ? null : login.context;
+    }
+
+    void update(AuthContext context) {
+        logins.computeIfPresent(context.getLoginId(), (loginId, login) -> {
+            login.context = context;
+            login.rejectedToken = null;
+            return login;
+        });
+    }
+
+    void setRefresh(String loginId, ScheduledFuture<?> refresh) {
+        TrackedLogin login = logins.get(loginId);
+        if (login != null) {
+            login.refresh = refresh;
+        }
+    }
+
+    boolean isIdle(String loginId, Duration idleTimeout) {
+        TrackedLogin login = logins.get(loginId);
+        return login == null || login.lastUsed.plus(idleTimeout).isBefore(Instant.now());
+    }
+
+    void remove(String loginId) {
+        TrackedLogin login = logins.remove(loginId);
+        if (login != null && login.refresh != null) {
+            login.refresh.cancel(false);
+        }
+    }
+
+    private static class TrackedLogin {
+        private volatile AuthContext context;
+        private volatile String rejectedToken;
+        private volatile Instant lastUsed = Instant.now();
+        private volatile ScheduledFuture<?> refresh;
+
+        TrackedLogin(AuthContext context) {
+            this.context = context;
+        }
+    }
+}
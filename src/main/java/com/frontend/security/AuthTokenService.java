@@ -0,0 +1,147 @@
+package com.frontend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.client.AuthenticationClient;
+import com.frontend.config.BackgroundTasks;
+import com.frontend.config.BackendConfig;
+import com.frontend.domainDto.response.JwtTokenResponse;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Tracks the token of every login in the {@link AuthTokenRegistry} and refreshes it ahead of its expiry. A login stops
+ * being tracked on logout, when its session is destroyed, when it goes idle and once its token can no longer be
+ * refreshed before it expires.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthTokenService implements VaadinServiceInitListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthTokenService.class);
+    private final AuthTokenRegistry authTokenRegistry;
+    private final AuthenticationClient authenticationClient;
+    private final BackendConfig backendConfig;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor backgroundExecutor;
+    private final ThreadPoolTaskScheduler backgroundScheduler;
+
+    public AuthContext login(String username, String token) {
+        AuthContext context = AuthContext.login(username, token, readExpiry(token));
+        Instant refreshAt = refreshTime(context);
+        if (refreshAt == null) {
+            LOGGER.info("Logged in user: " + username + " with a token of unknown expiry, it will not be refreshed.");
+            return context;
+        }
+        authTokenRegistry.register(context);
+        scheduleRefresh(context, refreshAt);
+        LOGGER.info("Logged in user: " + username + " with token valid until: " + context.getExpiresAt());
+        return context;
+    }
+
+    public void logout(AuthContext context) {
+        LOGGER.info("Forgetting token of user: " + context.getUsername());
+        authTokenRegistry.remove(context.getLoginId());
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addSessionDestroyListener(sessionDestroy -> {
+            AuthContext context = sessionDestroy.getSession().getAttribute(AuthContext.class);
+            if (context != null) {
+                logout(context);
+            }
+        });
+    }
+
+    private void refresh(String loginId) {
+        AuthContext current = authTokenRegistry.getCurrent(loginId);
+        if (current == null) {
+            return;
+        }
+        if (authTokenRegistry.isIdle(loginId, backendConfig.getTokenIdleTimeout())) {
+            LOGGER.info("Token of user: " + current.getUsername() + " not used recently, it will not be refreshed.");
+            authTokenRegistry.remove(loginId);
+            return;
+        }
+        JwtTokenResponse response = authenticationClient.refreshToken(current.getToken());
+        if (response == null || response.getJwtToken() == null) {
+            Instant retryAt = Instant.now().plus(backendConfig.getTokenRefreshRetry());
+            if (!current.isExpiredAt(retryAt)) {
+                LOGGER.warn("Could not refresh token of user: " + current.getUsername() + ", retrying at: " + retryAt);
+                scheduleRefresh(current, retryAt);
+            } else {
+                LOGGER.warn("Could not refresh token of user: " + current.getUsername() + ", it expires at: " + current.getExpiresAt());
+                scheduleRemoval(current);
+            }
+            return;
+        }
+        AuthContext refreshed = current.refreshed(response.getJwtToken(), readExpiry(response.getJwtToken()));
+        authTokenRegistry.update(refreshed);
+        Instant refreshAt = refreshTime(refreshed);
+        if (refreshAt == null) {
+            // Still tracked so the session keeps using it, it is forgotten with the session.
+            LOGGER.warn("Refreshed token of user: " + refreshed.getUsername() + " has unknown expiry, it will not be refreshed again.");
+            return;
+        }
+        scheduleRefresh(refreshed, refreshAt);
+        LOGGER.info("Refreshed token of user: " + refreshed.getUsername() + ", now valid until: " + refreshed.getExpiresAt());
+    }
+
+    private Instant refreshTime(AuthContext context) {
+        return context.getExpiresAt() == null ? null : context.getExpiresAt().minus(backendConfig.getTokenRefreshAhead());
+    }
+
+    private void scheduleRefresh(AuthContext context, Instant refreshAt) {
+        String loginId = context.getLoginId();
+        authTokenRegistry.setRefresh(loginId, backgroundScheduler.schedule(() -> submitRefresh(context), refreshAt));
+    }
+
+    private void submitRefresh(AuthContext context) {
+        if (BackgroundTasks.execute(() -> refresh(context.getLoginId()), backgroundExecutor, "token refresh of user: " + context.getUsername())) {
+            return;
+        }
+        Instant retryAt = Instant.now().plus(backendConfig.getTokenRefreshRetry());
+        if (!context.isExpiredAt(retryAt)) {
+            scheduleRefresh(context, retryAt);
+        } else {
+            scheduleRemoval(authTokenRegistry.getCurrent(context.getLoginId()));
+        }
+    }
+
+    /**
+     * Forgets a login whose token will not be refreshed anymore once it expires, it stays in use until then.
+     */
+    private void scheduleRemoval(AuthContext context) {
+        if (context == null) {
+            return;
+        }
+        String loginId = context.getLoginId();
+        authTokenRegistry.setRefresh(loginId, backgroundScheduler.schedule(() -> authTokenRegistry.remove(loginId), context.getExpiresAt()));
+    }
+
+    private Instant readExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            LOGGER.warn("Token is not a JWT, its expiry is unknown.");
+            return null;
+        }
+        try {
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode exp = claims.get("exp");
+            return exp == null || !exp.canConvertToLong() ? null : Instant.ofEpochSecond(exp.asLong());
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not read token expiry: " + e.getMessage());
+            return null;
+        }
+    }
+}
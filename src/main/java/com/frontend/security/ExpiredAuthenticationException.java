@@ -0,0 +1,10 @@
+package com.frontend.security;
+
+import org.springframework.web.client.RestClientException;
+
+public class ExpiredAuthenticationException extends RestClientException {
+
+    public ExpiredAuthenticationException(String message) {
+        super(message);
+    }
+}
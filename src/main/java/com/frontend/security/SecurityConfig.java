@@ -1,16 +1,24 @@
 package com.frontend.security;
 
+import com.frontend.cache.ReferenceDataEndpoint;
 import com.frontend.views.LoginView;
 import com.vaadin.flow.spring.security.VaadinWebSecurity;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 
 @EnableWebSecurity
@@ -20,17 +28,34 @@ public class SecurityConfig extends VaadinWebSecurity {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Value("${management.server.port}")
+    private int managementPort;
+
     @Bean
     AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider
                 = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(new BCryptPasswordEncoder());
+        provider.setPasswordEncoder(passwordHasher);
+        provider.setUserCache(userCache);
         return provider;
     }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
+        // Actuator is served on its own port, reachable from the internal network only, scrapes and operator calls there
+        // need no login.
+        RequestMatcher managementRequest = new AndRequestMatcher(
+                new OrRequestMatcher(EndpointRequest.to(PrometheusScrapeEndpoint.class, ReferenceDataEndpoint.class), new AntPathRequestMatcher("/error")),
+                request -> request.getLocalPort() == managementPort);
+        http.authorizeHttpRequests(auth -> auth.requestMatchers(managementRequest).permitAll());
+        http.csrf(csrf -> csrf.ignoringRequestMatchers(managementRequest));
         super.configure(http);
         setLoginView(http, LoginView.class);
     }
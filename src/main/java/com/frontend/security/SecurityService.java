@@ -2,13 +2,20 @@ package com.frontend.security;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.server.VaadinServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class SecurityService {
+    private final AuthTokenService authTokenService;
 
     public void logout(){
+        AuthContext context = AuthContextHolder.getContext();
+        if (context != null) {
+            authTokenService.logout(context);
+        }
         UI.getCurrent().getPage().setLocation("/");
         SecurityContextLogoutHandler logoutHandler = new SecurityContextLogoutHandler();
         logoutHandler.logout(VaadinServletRequest.getCurrent().getHttpServletRequest(), null, null);
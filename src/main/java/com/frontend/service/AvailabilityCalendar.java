@@ -0,0 +1,74 @@
+package com.frontend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Available start times of one garage for one repair duration within the booking window. A complete calendar was
+ * loaded in one batch, an incomplete one only knows the days that were looked up one by one.
+ */
+public class AvailabilityCalendar {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final boolean complete;
+    private final Instant loadedAt = Instant.now();
+    private final Map<LocalDate, List<LocalTime>> availableTimes = new ConcurrentHashMap<>();
+
+    private AvailabilityCalendar(LocalDate from, LocalDate to, boolean complete) {
+        this.from = from;
+        this.to = to;
+        this.complete = complete;
+    }
+
+    public static AvailabilityCalendar complete(LocalDate from, LocalDate to, Map<LocalDate, List<LocalTime>> availableTimes) {
+        AvailabilityCalendar calendar = new AvailabilityCalendar(from, to, true);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            calendar.availableTimes.put(date, List.copyOf(availableTimes.getOrDefault(date, List.of())));
+        }
+        return calendar;
+    }
+
+    public static AvailabilityCalendar incomplete(LocalDate from, LocalDate to) {
+        return new AvailabilityCalendar(from, to, false);
+    }
+
+    public Optional<List<LocalTime>> getAvailableTimes(LocalDate date) {
+        return Optional.ofNullable(availableTimes.get(date));
+    }
+
+    public void record(LocalDate date, List<LocalTime> times) {
+        if (!date.isBefore(from) && !date.isAfter(to)) {
+            availableTimes.put(date, List.copyOf(times));
+        }
+    }
+
+    public boolean isFullyBooked(LocalDate date) {
+        return getAvailableTimes(date).map(List::isEmpty).orElse(false);
+    }
+
+    public Optional<LocalDate> getFirstAvailableDate() {
+        if (!complete) {
+            return Optional.empty();
+        }
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!availableTimes.get(date).isEmpty()) {
+                return Optional.of(date);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean isOlderThan(Duration ttl) {
+        return loadedAt.plus(ttl).isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,70 @@
+package com.frontend.service;
+
+import com.frontend.config.CacheConfig;
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@VaadinSessionScope
+@RequiredArgsConstructor
+public class AvailabilityCalendarService {
+    public static final int BOOKING_DAYS_AHEAD = 60;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AvailabilityCalendarService.class);
+    private final BookingService bookingService;
+    private final CacheConfig cacheConfig;
+    private final Map<CalendarKey, CompletableFuture<AvailabilityCalendar>> calendars = new ConcurrentHashMap<>();
+
+    public CompletableFuture<AvailabilityCalendar> getCalendar(Long garageId, int repairDuration) {
+        CalendarKey key = new CalendarKey(garageId, repairDuration);
+        return calendars.compute(key, (calendarKey, calendar) -> {
+            if (calendar != null && !isExpired(calendar)) {
+                return calendar;
+            }
+            LocalDate from = LocalDate.now();
+            return bookingService.getAvailabilityCalendarAsync(from, from.plusDays(BOOKING_DAYS_AHEAD), repairDuration, garageId);
+        });
+    }
+
+    public Optional<AvailabilityCalendar> getLoadedCalendar(Long garageId, int repairDuration) {
+        return Optional.ofNullable(calendars.get(new CalendarKey(garageId, repairDuration)))
+                .filter(calendar -> calendar.isDone() && !calendar.isCompletedExceptionally())
+                .map(CompletableFuture::join);
+    }
+
+    public CompletableFuture<List<LocalTime>> getAvailableTimes(Long garageId, int repairDuration, LocalDate date) {
+        return getCalendar(garageId, repairDuration).thenCompose(calendar -> calendar.getAvailableTimes(date)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> bookingService.getAvailableBookingTimesAsync(date, repairDuration, garageId)
+                        .thenApply(availableTimes -> {
+                            // A failed lookup is not a fully booked day, it is left for the next lookup to retry.
+                            if (availableTimes != null) {
+                                calendar.record(date, availableTimes);
+                            }
+                            return availableTimes;
+                        })));
+    }
+
+    public void invalidate(Long garageId) {
+        LOGGER.info("Invalidating availability calendars of garage with id: " + garageId);
+        calendars.keySet().removeIf(key -> key.garageId().equals(garageId));
+    }
+
+    private boolean isExpired(CompletableFuture<AvailabilityCalendar> calendar) {
+        return calendar.isCompletedExceptionally()
+                || (calendar.isDone() && calendar.join().isOlderThan(cacheConfig.getBookingCalendarTtl()));
+    }
+
+    private record CalendarKey(Long garageId, int repairDuration) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.frontend.service;
 
-import com.frontend.client.AvailableCarRepairClient;
+import com.frontend.cache.GarageOffer;
+import com.frontend.cache.GarageOfferCache;
 import com.frontend.domainDto.response.AvailableCarRepairDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,11 +14,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AvailableCarRepairService {
     private static final Logger LOGGER = LoggerFactory.getLogger(AvailableCarRepairService.class);
-    private final AvailableCarRepairClient availableCarRepairClient;
+    private final GarageOfferCache garageOfferCache;
 
     public List<AvailableCarRepairDto> getAllAvailableServices(Long garageId) {
-        List<AvailableCarRepairDto> availableCarRepairDtoList = availableCarRepairClient.getALlAvailableServices(garageId);
-        LOGGER.info("Retrieved available services list with size of: " + availableCarRepairDtoList.size());
+        GarageOffer garageOffer = garageOfferCache.getOffer(garageId);
+        LOGGER.info("Retrieved available services list with size of: " + garageOffer.size());
+        return garageOffer.getServices();
+    }
+
+    public List<AvailableCarRepairDto> getAvailableServicesForMake(Long garageId, String make) {
+        List<AvailableCarRepairDto> availableCarRepairDtoList = garageOfferCache.getOffer(garageId).getServicesForMake(make);
+        LOGGER.info("Retrieved available services list for make: " + make + " with size of: " + availableCarRepairDtoList.size());
         return availableCarRepairDtoList;
     }
+
+    public void prefetchAvailableServices(Long garageId) {
+        garageOfferCache.prefetch(garageId);
+    }
 }
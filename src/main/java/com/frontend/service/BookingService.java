@@ -1,43 +1,89 @@
 package com.frontend.service;
 
+import com.frontend.cache.AvailableTimesCache;
 import com.frontend.client.BookingClient;
+import com.frontend.config.BackgroundTasks;
+import com.frontend.domainDto.response.BookingDto;
 import com.frontend.domainDto.response.CarRepairDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class BookingService {
     private static final Logger LOGGER = LoggerFactory.getLogger(BookingService.class);
     private final BookingClient bookingClient;
+    private final AvailableTimesCache availableTimesCache;
+    private final ThreadPoolTaskExecutor backgroundExecutor;
 
     public List<LocalTime> getAvailableBookingTimes(LocalDate date, int repairDuration, Long garageId) {
         LOGGER.info("Given parameters to get available times, date: " + date + ", total repair time: " + repairDuration + ", garage id: " + garageId);
-        List<LocalTime> localTimeList = bookingClient.getAvailableBookingTimes(date, repairDuration, garageId);
-        LOGGER.info("Retrieved LocalTime list with size of: " + localTimeList.size());
+        List<LocalTime> localTimeList = availableTimesCache.getAvailableTimes(garageId, date, repairDuration);
+        logRetrievedTimes(localTimeList);
         return localTimeList;
     }
 
     public List<LocalTime> getAvailableBookingTimes(LocalDate selectedNewDate, CarRepairDto selectedCarService) {
         LOGGER.info("Given parameters to get available times, date: " + selectedNewDate + ", selected CarService: " + selectedCarService);
-        List<LocalTime> localTimeList = bookingClient.getAvailableBookingTimes(selectedNewDate, selectedCarService.getId());
-        LOGGER.info("Retrieved LocalTime list with size of: " + localTimeList.size());
+        List<LocalTime> localTimeList = availableTimesCache.getAvailableTimesForCarService(selectedCarService.getBookingDto().getGarageDto().getId(), selectedNewDate, selectedCarService.getId());
+        logRetrievedTimes(localTimeList);
         return localTimeList;
     }
 
-    public void saveBooking(List<Long> selectedServiceIdList, LocalDate date, LocalTime startHour, Long garageId, Long carId, int repairDuration) {
+    private void logRetrievedTimes(List<LocalTime> localTimeList) {
+        if (localTimeList == null) {
+            LOGGER.warn("Available times could not be retrieved.");
+        } else {
+            LOGGER.info("Retrieved LocalTime list with size of: " + localTimeList.size());
+        }
+    }
+
+    public CompletableFuture<List<LocalTime>> getAvailableBookingTimesAsync(LocalDate date, int repairDuration, Long garageId) {
+        return BackgroundTasks.supplyAsync(() -> getAvailableBookingTimes(date, repairDuration, garageId), backgroundExecutor);
+    }
+
+    public CompletableFuture<List<LocalTime>> getAvailableBookingTimesAsync(LocalDate selectedNewDate, CarRepairDto selectedCarService) {
+        return BackgroundTasks.supplyAsync(() -> getAvailableBookingTimes(selectedNewDate, selectedCarService), backgroundExecutor);
+    }
+
+    public CompletableFuture<AvailabilityCalendar> getAvailabilityCalendarAsync(LocalDate from, LocalDate to, int repairDuration, Long garageId) {
+        return BackgroundTasks.supplyAsync(() -> {
+            LOGGER.info("Getting availability calendar from: " + from + " to: " + to + ", total repair time: " + repairDuration + ", garage id: " + garageId);
+            Map<LocalDate, List<LocalTime>> availableTimes = bookingClient.getAvailableBookingCalendar(from, to, repairDuration, garageId);
+            if (availableTimes == null) {
+                return AvailabilityCalendar.incomplete(from, to);
+            }
+            LOGGER.info("Retrieved availability calendar with " + availableTimes.size() + " days.");
+            return AvailabilityCalendar.complete(from, to, availableTimes);
+        }, backgroundExecutor);
+    }
+
+    public boolean saveBooking(List<Long> selectedServiceIdList, LocalDate date, LocalTime startHour, Long garageId, Long carId, int repairDuration) {
         LOGGER.info("Saving booking and related carServices.");
-        bookingClient.saveBooking(selectedServiceIdList, date, startHour, garageId, carId, repairDuration);
+        boolean saved = bookingClient.saveBooking(selectedServiceIdList, date, startHour, garageId, carId, repairDuration);
+        if (saved) {
+            availableTimesCache.invalidate(garageId, date);
+        }
+        return saved;
     }
 
-    public void updateBooking(Long bookingId, LocalDate selectedNewDate, LocalTime selectedNewStartTime) {
+    public boolean updateBooking(BookingDto booking, LocalDate selectedNewDate, LocalTime selectedNewStartTime) {
         LOGGER.info("Updating booking with new date: " + selectedNewDate + " and time: " + selectedNewStartTime);
-        bookingClient.updateBooking(bookingId, selectedNewDate, selectedNewStartTime);
+        boolean updated = bookingClient.updateBooking(booking.getId(), selectedNewDate, selectedNewStartTime);
+        if (updated) {
+            Long garageId = booking.getGarageDto().getId();
+            availableTimesCache.invalidate(garageId, booking.getDate());
+            availableTimesCache.invalidate(garageId, selectedNewDate);
+        }
+        return updated;
     }
 }
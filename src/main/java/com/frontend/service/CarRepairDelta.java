@@ -0,0 +1,18 @@
+package com.frontend.service;
+
+import com.frontend.domainDto.response.CarRepairDto;
+
+public record CarRepairDelta(Long carRepairId, CarRepairDto carRepair, CarRepairPhase phase) {
+
+    public static CarRepairDelta upserted(CarRepairDto carRepair, CarRepairPhase phase) {
+        return new CarRepairDelta(carRepair.getId(), carRepair, phase);
+    }
+
+    public static CarRepairDelta removed(Long carRepairId) {
+        return new CarRepairDelta(carRepairId, null, null);
+    }
+
+    public boolean isRemoved() {
+        return carRepair == null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.frontend.service;
+
+import com.frontend.domainDto.response.BookingDto;
+import com.frontend.domainDto.response.CarRepairDto;
+
+import java.time.LocalDateTime;
+
+public enum CarRepairPhase {
+    INCOMING,
+    IN_PROGRESS,
+    COMPLETED;
+
+    public static CarRepairPhase of(CarRepairDto carRepair, LocalDateTime now) {
+        BookingDto booking = carRepair.getBookingDto();
+        if (booking.getDate().atTime(booking.getStartHour()).isAfter(now)) {
+            return INCOMING;
+        }
+        if (booking.getDate().atTime(booking.getEndHour()).isAfter(now)) {
+            return IN_PROGRESS;
+        }
+        return COMPLETED;
+    }
+}
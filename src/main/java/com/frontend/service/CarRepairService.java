@@ -7,22 +7,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.math.RoundingMode;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CarRepairService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CarRepairService.class);
+    private static final String COMPLETED_STATUS = "completed";
     private final CarRepairClient carRepairClient;
 
-    public List<CarRepairDto> getCarServices(String username) {
-        List<CarRepairDto> carRepairDtoList = carRepairClient.getCarServices(username);
-        LOGGER.info("Retrieved car services list with size of: " + carRepairDtoList.size());
+    public List<CarRepairDto> getCompletedCarServices(String username, int page, int size, String sort) {
+        List<CarRepairDto> carRepairDtoList = Optional.ofNullable(carRepairClient.getCarServicesPage(username, COMPLETED_STATUS, page, size, sort)).orElse(List.of());
+        carRepairDtoList.forEach(carRepair -> carRepair.setCost(carRepair.getCost().setScale(0, RoundingMode.HALF_DOWN)));
+        LOGGER.info("Retrieved page " + page + " of completed car services with size of: " + carRepairDtoList.size());
         return carRepairDtoList;
     }
 
-    public void cancelService(Long serviceId) {
+    public int countCompletedCarServices(String username) {
+        return (int) carRepairClient.countCarServices(username, COMPLETED_STATUS);
+    }
+
+    public boolean cancelService(Long serviceId) {
         LOGGER.info("Deleting CarService with id: " + serviceId);
-        carRepairClient.deleteService(serviceId);
+        return carRepairClient.deleteService(serviceId);
     }
 }
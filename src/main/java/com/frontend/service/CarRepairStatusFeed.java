@@ -0,0 +1,289 @@
+package com.frontend.service;
+
+import com.frontend.client.CarRepairClient;
+import com.frontend.config.BackendConfig;
+import com.frontend.config.BackgroundTasks;
+import com.frontend.domainDto.response.BookingDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import com.frontend.security.AuthContext;
+import com.frontend.security.AuthContextHolder;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.shared.Registration;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps one snapshot of car services per subscribed user and delivers only what changed to the subscribers. Changes
+ * come from our own writes, published right after they succeed, and from services moving between phases as time
+ * passes, which is worked out from the snapshot every poll interval without calling the backend. Only changes made by
+ * the garage need the backend, once per refresh interval the active services, and only those, are fetched again page
+ * by page. Only incoming and in progress services are kept, a service that completes is delivered once and then left
+ * to the paged history.
+ */
+@Service
+@RequiredArgsConstructor
+public class CarRepairStatusFeed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CarRepairStatusFeed.class);
+    private static final String ACTIVE_STATUS = "active";
+    private static final String ACTIVE_SORT = "date,asc";
+    private static final int ACTIVE_PAGE_SIZE = 50;
+    private final CarRepairClient carRepairClient;
+    private final BackendConfig backendConfig;
+    private final ThreadPoolTaskExecutor backgroundExecutor;
+    private final ThreadPoolTaskScheduler backgroundScheduler;
+    private final Map<String, UserFeed> feeds = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void schedulePolling() {
+        Duration pollInterval = backendConfig.getCarRepairStatusPollInterval();
+        backgroundScheduler.scheduleWithFixedDelay(this::advanceSubscribedUsers, Instant.now().plus(pollInterval), pollInterval);
+    }
+
+    public Registration subscribe(String username, Consumer<List<CarRepairDelta>> listener) {
+        AuthContext context = AuthContextHolder.getContext();
+        UserFeed feed = feeds.compute(username, (key, existing) -> {
+            UserFeed userFeed = existing == null ? new UserFeed() : existing;
+            userFeed.addListener(listener, context);
+            return userFeed;
+        });
+        List<CarRepairDelta> snapshot = feed.snapshot();
+        if (snapshot == null) {
+            submitPoll(username, feed, "car services snapshot of user: " + username);
+        } else {
+            deliver(List.of(listener), snapshot);
+        }
+        return () -> feeds.computeIfPresent(username, (key, userFeed) -> userFeed.removeListener(listener) ? null : userFeed);
+    }
+
+    public void publishCancelled(String username, Long carRepairId) {
+        UserFeed feed = feeds.get(username);
+        if (feed != null) {
+            deliver(feed.getListeners(), feed.remove(carRepairId));
+        }
+    }
+
+    public void publishRescheduled(String username, BookingDto booking, LocalDate newDate, LocalTime newStartHour) {
+        UserFeed feed = feeds.get(username);
+        if (feed != null) {
+            deliver(feed.getListeners(), feed.reschedule(booking.getId(), newDate, newStartHour));
+        }
+    }
+
+    private void advanceSubscribedUsers() {
+        Instant refreshBefore = Instant.now().minus(backendConfig.getCarRepairStatusRefreshInterval());
+        feeds.forEach((username, feed) -> {
+            if (feed.isPollDue(refreshBefore)) {
+                submitPoll(username, feed, "car services poll of user: " + username);
+            } else {
+                deliver(feed.getListeners(), feed.advance(LocalDateTime.now()));
+            }
+        });
+    }
+
+    private void submitPoll(String username, UserFeed feed, String description) {
+        if (feed.startPoll() && !BackgroundTasks.execute(() -> poll(username, feed), backgroundExecutor, description)) {
+            feed.finishPoll();
+        }
+    }
+
+    private void poll(String username, UserFeed feed) {
+        AuthContextHolder.withContext(feed.getContext(), () -> {
+            try {
+                List<CarRepairDto> carRepairDtoList = getActiveCarServices(username);
+                if (carRepairDtoList == null) {
+                    LOGGER.warn("Could not poll car services of user: " + username + ", keeping previous snapshot.");
+                    return;
+                }
+                List<CarRepairDelta> deltas = feed.update(carRepairDtoList, LocalDateTime.now());
+                if (!deltas.isEmpty()) {
+                    LOGGER.info("Delivering " + deltas.size() + " car service changes to user: " + username);
+                }
+                deliver(feed.getListeners(), deltas);
+            } finally {
+                feed.finishPoll();
+            }
+        }).run();
+    }
+
+    private List<CarRepairDto> getActiveCarServices(String username) {
+        List<CarRepairDto> carRepairDtoList = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            List<CarRepairDto> carRepairPage = carRepairClient.getCarServicesPage(username, ACTIVE_STATUS, page, ACTIVE_PAGE_SIZE, ACTIVE_SORT);
+            if (carRepairPage == null) {
+                return null;
+            }
+            carRepairDtoList.addAll(carRepairPage);
+            if (carRepairPage.size() < ACTIVE_PAGE_SIZE) {
+                return carRepairDtoList;
+            }
+        }
+    }
+
+    private void deliver(List<Consumer<List<CarRepairDelta>>> listeners, List<CarRepairDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (Consumer<List<CarRepairDelta>> listener : listeners) {
+            try {
+                listener.accept(deltas);
+            } catch (UIDetachedException e) {
+                LOGGER.info("UI detached before car service changes were delivered.");
+            }
+        }
+    }
+
+    static class UserFeed {
+        private final List<Consumer<List<CarRepairDelta>>> listeners = new CopyOnWriteArrayList<>();
+        private Map<Long, Snapshot> snapshots;
+        private volatile AuthContext context;
+        private boolean polling;
+        private Instant polledAt = Instant.MIN;
+
+        void addListener(Consumer<List<CarRepairDelta>> listener, AuthContext context) {
+            listeners.add(listener);
+            this.context = context;
+        }
+
+        boolean removeListener(Consumer<List<CarRepairDelta>> listener) {
+            listeners.remove(listener);
+            return listeners.isEmpty();
+        }
+
+        List<Consumer<List<CarRepairDelta>>> getListeners() {
+            return listeners;
+        }
+
+        AuthContext getContext() {
+            return context;
+        }
+
+        synchronized boolean startPoll() {
+            if (polling) {
+                return false;
+            }
+            polling = true;
+            return true;
+        }
+
+        synchronized void finishPoll() {
+            polling = false;
+            polledAt = Instant.now();
+        }
+
+        /**
+         * A feed without a snapshot yet, because its first poll failed or was rejected, is due on every poll interval.
+         */
+        synchronized boolean isPollDue(Instant refreshBefore) {
+            return !polling && (snapshots == null || polledAt.isBefore(refreshBefore));
+        }
+
+        synchronized List<CarRepairDelta> snapshot() {
+            if (snapshots == null) {
+                return null;
+            }
+            return snapshots.values().stream()
+                    .map(snapshot -> CarRepairDelta.upserted(snapshot.carRepair(), snapshot.phase()))
+                    .toList();
+        }
+
+        synchronized List<CarRepairDelta> update(List<CarRepairDto> carRepairDtoList, LocalDateTime now) {
+            Map<Long, Snapshot> previous = snapshots == null ? Map.of() : snapshots;
+            Map<Long, Snapshot> current = new LinkedHashMap<>();
+            List<CarRepairDelta> deltas = new ArrayList<>();
+            List<Long> completedIds = new ArrayList<>();
+            for (CarRepairDto carRepair : carRepairDtoList) {
+                CarRepairPhase phase = CarRepairPhase.of(carRepair, now);
+                if (phase == CarRepairPhase.COMPLETED) {
+                    completedIds.add(carRepair.getId());
+                    if (previous.containsKey(carRepair.getId())) {
+                        deltas.add(CarRepairDelta.upserted(carRepair, phase));
+                    }
+                    continue;
+                }
+                carRepair.setCost(carRepair.getCost().setScale(0, RoundingMode.HALF_DOWN));
+                Snapshot snapshot = new Snapshot(carRepair, phase);
+                current.put(carRepair.getId(), snapshot);
+                if (!snapshot.equals(previous.get(carRepair.getId()))) {
+                    deltas.add(CarRepairDelta.upserted(carRepair, phase));
+                }
+            }
+            // The backend leaves out services that completed since the last poll, they are told apart from removed ones by time.
+            previous.values().stream()
+                    .filter(snapshot -> !current.containsKey(snapshot.carRepair().getId()) && !completedIds.contains(snapshot.carRepair().getId()))
+                    .forEach(snapshot -> deltas.add(CarRepairPhase.of(snapshot.carRepair(), now) == CarRepairPhase.COMPLETED
+                            ? CarRepairDelta.upserted(snapshot.carRepair(), CarRepairPhase.COMPLETED)
+                            : CarRepairDelta.removed(snapshot.carRepair().getId())));
+            snapshots = current;
+            return deltas;
+        }
+
+        synchronized List<CarRepairDelta> advance(LocalDateTime now) {
+            if (snapshots == null) {
+                return List.of();
+            }
+            List<CarRepairDelta> deltas = new ArrayList<>();
+            snapshots.replaceAll((carRepairId, snapshot) -> {
+                CarRepairPhase phase = CarRepairPhase.of(snapshot.carRepair(), now);
+                if (phase == snapshot.phase()) {
+                    return snapshot;
+                }
+                deltas.add(CarRepairDelta.upserted(snapshot.carRepair(), phase));
+                return new Snapshot(snapshot.carRepair(), phase);
+            });
+            snapshots.values().removeIf(snapshot -> snapshot.phase() == CarRepairPhase.COMPLETED);
+            return deltas;
+        }
+
+        synchronized List<CarRepairDelta> remove(Long carRepairId) {
+            if (snapshots == null || snapshots.remove(carRepairId) == null) {
+                return List.of();
+            }
+            return List.of(CarRepairDelta.removed(carRepairId));
+        }
+
+        synchronized List<CarRepairDelta> reschedule(Long bookingId, LocalDate newDate, LocalTime newStartHour) {
+            if (snapshots == null) {
+                return List.of();
+            }
+            List<CarRepairDelta> deltas = new ArrayList<>();
+            snapshots.replaceAll((carRepairId, snapshot) -> {
+                BookingDto booking = snapshot.carRepair().getBookingDto();
+                if (!bookingId.equals(booking.getId())) {
+                    return snapshot;
+                }
+                LocalTime newEndHour = newStartHour.plus(Duration.between(booking.getStartHour(), booking.getEndHour()));
+                BookingDto rescheduledBooking = new BookingDto(booking.getId(), booking.getStatus(), newDate, newStartHour, newEndHour,
+                        booking.getCreated(), booking.getTotalCost(), booking.getCarServiceDtoIdList(), booking.getGarageDto());
+                CarRepairDto carRepair = snapshot.carRepair();
+                CarRepairDto rescheduled = new CarRepairDto(carRepair.getId(), carRepair.getName(), carRepair.getDescription(), carRepair.getCost(),
+                        carRepair.getRepairTimeInMinutes(), carRepair.getCarDto(), rescheduledBooking, carRepair.getStatus());
+                Snapshot rescheduledSnapshot = new Snapshot(rescheduled, CarRepairPhase.INCOMING);
+                deltas.add(CarRepairDelta.upserted(rescheduled, rescheduledSnapshot.phase()));
+                return rescheduledSnapshot;
+            });
+            return deltas;
+        }
+    }
+
+    private record Snapshot(CarRepairDto carRepair, CarRepairPhase phase) {
+    }
+}
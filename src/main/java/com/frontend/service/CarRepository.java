@@ -0,0 +1,119 @@
+package com.frontend.service;
+
+import com.frontend.domainDto.request.CarCreateDto;
+import com.frontend.domainDto.response.CarDto;
+import com.frontend.mapper.CarMapper;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The user's cars, loaded from the backend once per session and kept up to date by the writes made through it, so the
+ * views listening to it refresh without another request. A saved car is the exception, the backend does not answer
+ * with the id it assigned, so the cars are loaded again after every save.
+ */
+@Service
+@VaadinSessionScope
+@RequiredArgsConstructor
+public class CarRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CarRepository.class);
+    private final CarService carService;
+    private final CarMapper carMapper;
+    private final List<Consumer<List<CarDto>>> listeners = new CopyOnWriteArrayList<>();
+    private String username;
+    private List<CarDto> cars;
+
+    public synchronized List<CarDto> getCars(String username) {
+        if (cars == null || !Objects.equals(this.username, username)) {
+            load(username);
+        }
+        return cars == null ? List.of() : cars;
+    }
+
+    public List<CarCreateDto> getMappedCars(String username) {
+        return carMapper.mapToCarCreateDtoList(getCars(username));
+    }
+
+    public boolean saveCar(CarCreateDto carCreateDto, String username) {
+        if (!carService.saveCar(carCreateDto, username)) {
+            return false;
+        }
+        synchronized (this) {
+            load(username);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    public boolean updateCar(CarCreateDto carCreateDto) {
+        if (!carService.updateCar(carCreateDto)) {
+            return false;
+        }
+        CarDto updatedCar = carMapper.mapToCarDto(carCreateDto);
+        synchronized (this) {
+            if (cars != null) {
+                cars = cars.stream()
+                        .map(car -> car.getVehicleId().equals(updatedCar.getVehicleId()) ? updatedCar : car)
+                        .toList();
+            }
+        }
+        notifyListeners();
+        return true;
+    }
+
+    public boolean deleteCar(Long carId) {
+        if (!carService.deleteCar(carId)) {
+            return false;
+        }
+        synchronized (this) {
+            if (cars != null) {
+                cars = cars.stream()
+                        .filter(car -> !car.getVehicleId().equals(carId))
+                        .toList();
+            }
+        }
+        notifyListeners();
+        return true;
+    }
+
+    /**
+     * Registers a listener called with all of the user's cars whenever one of them is saved, updated or deleted.
+     */
+    public Registration addCarsChangeListener(Consumer<List<CarDto>> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    private void load(String username) {
+        List<CarDto> carDtoList = carService.getCarsForGivenUsername(username);
+        // Not kept when the backend could not be reached, the next call tries again.
+        this.cars = carDtoList == null ? null : List.copyOf(carDtoList);
+        this.username = username;
+    }
+
+    private void notifyListeners() {
+        List<CarDto> currentCars;
+        synchronized (this) {
+            if (cars == null) {
+                return;
+            }
+            currentCars = cars;
+        }
+        for (Consumer<List<CarDto>> listener : listeners) {
+            try {
+                listener.accept(currentCars);
+            } catch (UIDetachedException e) {
+                LOGGER.info("UI detached before car changes were delivered.");
+            }
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.frontend.service;
 
+import com.frontend.cache.CarReferenceDataCache;
 import com.frontend.client.CarClient;
 import com.frontend.domainDto.request.CarCreateDto;
 import com.frontend.domainDto.response.CarDto;
-import com.frontend.domainDto.response.MakeDto;
-import com.frontend.domainDto.response.ModelDto;
-import com.frontend.mapper.CarMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,13 +11,14 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class CarService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CarService.class);
     private final CarClient carClient;
-    private final CarMapper carMapper;
+    private final CarReferenceDataCache carReferenceDataCache;
 
     public List<CarDto> getCarsForGivenUsername(String username) {
         if (username == null) {
@@ -27,56 +26,57 @@ public class CarService {
             return new ArrayList<>();
         }
         List<CarDto> carDtoList = carClient.getCarsForGivenUsername(username);
+        if (carDtoList == null) {
+            LOGGER.warn("Could not retrieve car list of user: {}", username);
+            return null;
+        }
         LOGGER.info("Retrieved car list with size of: {}", carDtoList.size());
         return carDtoList;
     }
 
-    public List<CarCreateDto> getMappedCarsForGivenUsername (String username) {
-        List<CarDto> carDtoList = getCarsForGivenUsername(username);
-        return carMapper.mapToCarCreateDtoList(carDtoList);
-    }
-
-    public void updateCar(CarCreateDto carCreateDto) {
+    public boolean updateCar(CarCreateDto carCreateDto) {
         if (carCreateDto == null) {
             LOGGER.error("Given object for update is null.");
-            return;
-        }{
-            carClient.updateCar(carCreateDto);
+            return false;
+        }
+        boolean updated = carClient.updateCar(carCreateDto);
+        if (updated) {
             LOGGER.info("Car with id {} has been updated.", carCreateDto.getId());
         }
+        return updated;
     }
 
-    public void saveCar(CarCreateDto carCreateDto, String username) {
+    public boolean saveCar(CarCreateDto carCreateDto, String username) {
         if (carCreateDto == null) {
             LOGGER.error("Cannot save null car.");
-            return;
-        }{
-            carClient.saveCar(carCreateDto, username);
-            LOGGER.info("Car with ID {} has been saved.", carCreateDto.getId());
+            return false;
+        }
+        boolean saved = carClient.saveCar(carCreateDto, username);
+        if (saved) {
+            LOGGER.info("Car {} has been saved.", carCreateDto);
         }
+        return saved;
     }
 
-    public void deleteCar(Long carId) {
+    public boolean deleteCar(Long carId) {
         if (carId == null || carId < 0) {
             LOGGER.error("Cannot delete car when id is invalid.");
-            return;
-        }{
-            carClient.deleteCar(carId);
+            return false;
+        }
+        boolean deleted = carClient.deleteCar(carId);
+        if (deleted) {
             LOGGER.info("Car with ID {} has been deleted.", carId);
         }
+        return deleted;
     }
 
-    public List<String> getCarMakes() {
+    public CompletableFuture<List<String>> getCarMakes() {
         LOGGER.info("Getting car makes.");
-        List<MakeDto> carMakes = carClient.getCarMakes();
-        return carMakes.stream().map(MakeDto::makeName).toList();
+        return carReferenceDataCache.getMakes();
     }
 
-    public List<String> getCarModels(String make, String type, Integer year) {
+    public CompletableFuture<List<String>> getCarModels(String make) {
         LOGGER.info("Getting car models, for make:{}", make);
-        List<ModelDto> carModelDtos = carClient.getCarModels(make);
-        List<String> carModels = carModelDtos.stream().map(ModelDto::modelName).toList();
-        LOGGER.info("Car models received.");
-        return carModels;
+        return carReferenceDataCache.getModels(make);
     }
 }
@@ -1,6 +1,6 @@
 package com.frontend.service;
 
-import com.frontend.client.GarageClient;
+import com.frontend.cache.GarageCache;
 import com.frontend.domainDto.response.GarageDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,10 +13,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GarageService {
     private static final Logger LOGGER = LoggerFactory.getLogger(GarageService.class);
-    private final GarageClient garageClient;
+    private final GarageCache garageCache;
 
     public List<GarageDto> getGarages() {
-        List<GarageDto> garageDtoList = garageClient.getGarages();
+        List<GarageDto> garageDtoList = garageCache.getGarages();
         LOGGER.info("Retrieved garage list with size of: " + garageDtoList.size());
         return garageDtoList;
     }
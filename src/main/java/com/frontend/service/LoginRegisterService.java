@@ -1,26 +1,60 @@
 package com.frontend.service;
 
+import com.frontend.cache.RegisteredUsernameCache;
 import com.frontend.client.UserClient;
+import com.frontend.config.BackgroundTasks;
 import com.frontend.domainDto.request.RegisterUserDto;
 import com.frontend.domainDto.response.UserLoginDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class LoginRegisterService {
     private static final Logger LOGGER = LoggerFactory.getLogger(LoginRegisterService.class);
 
     private final UserClient userClient;
+    private final RegisteredUsernameCache registeredUsernameCache;
+    private final ThreadPoolTaskExecutor backgroundExecutor;
     public UserLoginDto getUser(String username) {
         LOGGER.info("Retrieving data about user with username: " + username);
         return userClient.getUserForLogin(username);
     }
 
-    public boolean isRegistered(String username) {
-        return userClient.isRegistered(username);
+    /**
+     * Quick check used while the username is typed, answered locally whenever possible. Completes with null if the
+     * backend could not be asked.
+     */
+    public CompletableFuture<Boolean> isRegisteredAsync(String username) {
+        Boolean registered = registeredUsernameCache.getIfKnown(username);
+        if (registered != null) {
+            return CompletableFuture.completedFuture(registered);
+        }
+        return BackgroundTasks.supplyAsync(() -> checkRegistered(username), backgroundExecutor);
+    }
+
+    /**
+     * Authoritative check made before registering, always asks the backend. Completes with null if it could not.
+     */
+    public CompletableFuture<Boolean> checkRegisteredAsync(String username) {
+        return BackgroundTasks.supplyAsync(() -> checkRegistered(username), backgroundExecutor);
+    }
+
+    public void markRegistered(String username) {
+        registeredUsernameCache.put(username, true);
+    }
+
+    private Boolean checkRegistered(String username) {
+        Boolean registered = userClient.isRegistered(username);
+        if (registered != null) {
+            registeredUsernameCache.put(username, registered);
+        }
+        return registered;
     }
 }
@@ -1,20 +1,27 @@
 package com.frontend.service;
 
 import com.frontend.client.UserClient;
+import com.frontend.config.BackgroundTasks;
 import com.frontend.domainDto.request.UpdateUserDto;
-import com.frontend.domainDto.response.PasswordDto;
 import com.frontend.domainDto.response.UserDto;
+import com.frontend.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private static final Logger LOGGER = LoggerFactory.getLogger(UserService.class);
     private final UserClient userClient;
+    private final UserCache loginUserCache;
+    private final PasswordHasher passwordHasher;
+    private final ThreadPoolTaskExecutor backgroundExecutor;
     public UserDto getUser(String username) {
         LOGGER.info("Retrieving data about user with username: " + username);
         UserDto userDto = userClient.getUser(username);
@@ -22,25 +29,23 @@ public class UserService {
         return userDto;
     }
 
-    public boolean isPasswordMatched(String username, String password) {
-        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-        PasswordDto passwordDto = userClient.getPassword(username);
-        String retrievedPassword = passwordDto.getPassword();
-        LOGGER.info("Retrieved password: " + retrievedPassword + " current password raw to check: " + password);
-        boolean matches = passwordEncoder.matches(password, retrievedPassword);
-        LOGGER.info("Password match: " + matches);
-        return matches;
-    }
-
-    public void updateUser(UpdateUserDto updateUserDto) {
+    public CompletableFuture<UserDto> updateUser(UpdateUserDto updateUserDto) {
         LOGGER.info("Updating user with username: " + updateUserDto.getUsername());
-        if (updateUserDto.getNewPassword() != null && !updateUserDto.getNewPassword().isEmpty()) {
-            BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-            updateUserDto.setPassword(passwordEncoder.encode(updateUserDto.getNewPassword()));
-        } else {
-            updateUserDto.setPassword(null);
-        }
-        updateUserDto.setNewPassword(null);
-        userClient.updateUser(updateUserDto);
+        boolean passwordChanged = updateUserDto.getNewPassword() != null && !updateUserDto.getNewPassword().isEmpty();
+        CompletableFuture<String> password = passwordChanged
+                ? passwordHasher.encodeAsync(updateUserDto.getNewPassword())
+                : CompletableFuture.completedFuture(null);
+        return password.thenCompose(encodedPassword -> BackgroundTasks.supplyAsync(() -> {
+            updateUserDto.setPassword(encodedPassword);
+            updateUserDto.setNewPassword(null);
+            if (!passwordChanged) {
+                updateUserDto.setCurrentPassword(null);
+            }
+            UserDto userDto = userClient.updateUser(updateUserDto);
+            if (userDto != null) {
+                loginUserCache.removeUserFromCache(updateUserDto.getUsername());
+            }
+            return userDto;
+        }, backgroundExecutor));
     }
 }
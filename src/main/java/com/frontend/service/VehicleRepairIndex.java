@@ -0,0 +1,89 @@
+package com.frontend.service;
+
+import com.frontend.client.CarRepairClient;
+import com.frontend.domainDto.response.CarRepairDto;
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which of the user's vehicles have car services, fed by the services the session loads anyway. Vehicles
+ * known to have services without their ids, from a booking or a count, are kept apart from the services seen and stay
+ * known until the last service seen of the vehicle goes away. Vehicles not known to have any are checked with a single
+ * count request, negative answers are not kept as another session may book.
+ */
+@Service
+@VaadinSessionScope
+@RequiredArgsConstructor
+public class VehicleRepairIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VehicleRepairIndex.class);
+    private final CarRepairClient carRepairClient;
+    private final Map<Long, Long> vehicleIdByCarRepairId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> carRepairIdsByVehicleId = new ConcurrentHashMap<>();
+    private final Set<Long> vehicleIdsWithServices = ConcurrentHashMap.newKeySet();
+
+    public void record(CarRepairDto carRepair) {
+        Long vehicleId = carRepair.getCarDto().getVehicleId();
+        vehicleIdByCarRepairId.put(carRepair.getId(), vehicleId);
+        carRepairIdsByVehicleId.computeIfAbsent(vehicleId, key -> ConcurrentHashMap.newKeySet()).add(carRepair.getId());
+    }
+
+    public void apply(List<CarRepairDelta> deltas) {
+        for (CarRepairDelta delta : deltas) {
+            if (delta.isRemoved()) {
+                remove(delta.carRepairId());
+            } else {
+                record(delta.carRepair());
+            }
+        }
+    }
+
+    public void markHasServices(Long vehicleId) {
+        vehicleIdsWithServices.add(vehicleId);
+    }
+
+    public boolean hasConnectedServices(Long vehicleId) {
+        if (vehicleIdsWithServices.contains(vehicleId) || carRepairIdsByVehicleId.containsKey(vehicleId)) {
+            return true;
+        }
+        Long count = carRepairClient.countVehicleCarServices(vehicleId);
+        if (count == null) {
+            LOGGER.warn("Could not count car services of vehicle with id: " + vehicleId + ", assuming it has some.");
+            return true;
+        }
+        LOGGER.info("Vehicle with id: " + vehicleId + " has " + count + " car services.");
+        if (count > 0) {
+            vehicleIdsWithServices.add(vehicleId);
+        }
+        return count > 0;
+    }
+
+    public void forget(Long vehicleId) {
+        vehicleIdsWithServices.remove(vehicleId);
+        Set<Long> carRepairIds = carRepairIdsByVehicleId.remove(vehicleId);
+        if (carRepairIds != null) {
+            carRepairIds.forEach(vehicleIdByCarRepairId::remove);
+        }
+    }
+
+    private void remove(Long carRepairId) {
+        Long vehicleId = vehicleIdByCarRepairId.remove(carRepairId);
+        if (vehicleId != null) {
+            Set<Long> remaining = carRepairIdsByVehicleId.computeIfPresent(vehicleId, (key, carRepairIds) -> {
+                carRepairIds.remove(carRepairId);
+                return carRepairIds.isEmpty() ? null : carRepairIds;
+            });
+            // The vehicle may still have services this session never saw, only a count can tell once none are known.
+            if (remaining == null) {
+                vehicleIdsWithServices.remove(vehicleId);
+            }
+        }
+    }
+}
@@ -1,23 +1,57 @@
 package com.frontend.service;
 
-import com.frontend.client.WeatherApiClient;
+import com.frontend.cache.ForecastCache;
+import com.frontend.config.BackgroundTasks;
 import com.frontend.domainDto.response.ForecastDto;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 public class WeatherApiService {
+    public static final int FORECAST_DAYS_AHEAD = 13;
     private static final Logger LOGGER = LoggerFactory.getLogger(WeatherApiService.class);
-    private final WeatherApiClient weatherApiClient;
+    private final ForecastCache forecastCache;
+    private final ThreadPoolTaskExecutor prefetchExecutor;
 
-    public ForecastDto getWeatherForCityAndDate(String city, LocalDate date) {
-        ForecastDto forecastDto = weatherApiClient.getWeatherForCityAndDate(city, date);
-        LOGGER.info("Retrieved forecast: " + forecastDto);
-        return forecastDto;
+    public WeatherApiService(ForecastCache forecastCache, @Qualifier("prefetchExecutor") ThreadPoolTaskExecutor prefetchExecutor) {
+        this.forecastCache = forecastCache;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    public CompletableFuture<ForecastDto> getWeatherForCityAndDate(String city, LocalDate date) {
+        return forecastCache.getForecast(city, date)
+                .whenComplete((forecastDto, throwable) -> LOGGER.info("Retrieved forecast: " + forecastDto));
+    }
+
+    /**
+     * Loads the forecasts of the coming days one after another on the prefetch executor, away from the lookups users
+     * wait for. Nothing is prefetched when the executor is busy, the forecasts are then loaded once they are viewed.
+     */
+    public void prefetchForecast(String city) {
+        BackgroundTasks.execute(() -> {
+            LOGGER.info("Prefetching " + FORECAST_DAYS_AHEAD + " days forecast for city: " + city);
+            LocalDate today = LocalDate.now();
+            for (int day = 0; day <= FORECAST_DAYS_AHEAD; day++) {
+                if (!forecastCache.prefetch(city, today.plusDays(day))) {
+                    LOGGER.info("Forecast of city: " + city + " could not be loaded, stopping prefetch.");
+                    return;
+                }
+            }
+        }, prefetchExecutor, "forecast prefetch of city: " + city);
+    }
+
+    public boolean isForecastAvailable(LocalDate date) {
+        return !date.isAfter(LocalDate.now().plusDays(FORECAST_DAYS_AHEAD));
+    }
+
+    public String getCityFromAddress(String address) {
+        int cityEnd = address.indexOf(" ");
+        return cityEnd < 0 ? address : address.substring(0, cityEnd);
     }
 }
@@ -0,0 +1,178 @@
+package com.frontend.session;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Estimates the heap held by object graphs by walking their fields, assuming a 64-bit JVM with compressed oops.
+ * Objects already counted by an earlier call on the same instance are not counted again, so one instance measures the
+ * parts of a graph one after another without overlap. JDK classes whose fields are not open to reflection count their
+ * shallow size only, except strings, collections and maps.
+ */
+final class RetainedSizeEstimator {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int COLLECTION_ELEMENT_OVERHEAD = 16;
+    private static final int MAP_ENTRY_OVERHEAD = 32;
+    private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected ClassLayout computeValue(Class<?> type) {
+            return ClassLayout.of(type);
+        }
+    };
+    private final Predicate<Object> boundary;
+    private final Predicate<Field> skippedField;
+    private final int maxObjects;
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean truncated;
+
+    RetainedSizeEstimator(Predicate<Object> boundary, Predicate<Field> skippedField, int maxObjects) {
+        this.boundary = boundary;
+        this.skippedField = skippedField;
+        this.maxObjects = maxObjects;
+    }
+
+    /**
+     * Returns the estimated bytes reachable from the root without crossing a boundary object. The root itself is
+     * always counted.
+     */
+    long estimate(Object root) {
+        if (root == null || !visited.add(root)) {
+            return 0;
+        }
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long bytes = 0;
+        while (!pending.isEmpty()) {
+            if (visited.size() > maxObjects) {
+                truncated = true;
+                break;
+            }
+            bytes += sizeOf(pending.pop(), pending);
+        }
+        return bytes;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    private long sizeOf(Object object, Deque<Object> pending) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return sizeOfArray(object, type.getComponentType(), pending);
+        }
+        ClassLayout layout = LAYOUTS.get(type);
+        long bytes = layout.shallowSize();
+        if (object instanceof String string) {
+            return bytes + align(ARRAY_HEADER + string.length());
+        }
+        for (Field field : layout.referenceFields()) {
+            if (!skippedField.test(field)) {
+                push(read(field, object), pending);
+            }
+        }
+        if (!layout.opaque()) {
+            return bytes;
+        }
+        try {
+            if (object instanceof Collection<?> collection) {
+                for (Object element : collection) {
+                    push(element, pending);
+                    bytes += COLLECTION_ELEMENT_OVERHEAD;
+                }
+            } else if (object instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    push(entry.getKey(), pending);
+                    push(entry.getValue(), pending);
+                    bytes += MAP_ENTRY_OVERHEAD;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Modified while walked, whatever was counted so far stands.
+        }
+        return bytes;
+    }
+
+    private long sizeOfArray(Object array, Class<?> componentType, Deque<Object> pending) {
+        int length = Array.getLength(array);
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+        }
+        for (Object element : (Object[]) array) {
+            push(element, pending);
+        }
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private void push(Object object, Deque<Object> pending) {
+        if (object != null && !boundary.test(object) && visited.add(object)) {
+            pending.push(object);
+        }
+    }
+
+    private static Object read(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private record ClassLayout(long shallowSize, List<Field> referenceFields, boolean opaque) {
+
+        static ClassLayout of(Class<?> type) {
+            long fieldBytes = 0;
+            List<Field> referenceFields = new ArrayList<>();
+            boolean opaque = false;
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        fieldBytes += primitiveSize(field.getType());
+                        continue;
+                    }
+                    fieldBytes += REFERENCE;
+                    if (field.trySetAccessible()) {
+                        referenceFields.add(field);
+                    } else {
+                        opaque = true;
+                    }
+                }
+            }
+            return new ClassLayout(align(OBJECT_HEADER + fieldBytes), List.copyOf(referenceFields), opaque);
+        }
+    }
+}
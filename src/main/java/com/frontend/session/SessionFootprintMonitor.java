@@ -0,0 +1,254 @@
+package com.frontend.session;
+
+import com.frontend.config.BackgroundTasks;
+import com.frontend.config.SessionConfig;
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.router.Router;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically estimates the heap every Vaadin session holds, split by the views its UIs show, and keeps each session
+ * within its memory budget by closing UIs that have not been used for a while, least recently used first. A UI counts as
+ * used when it processed a message from its user, over push or not, heartbeats of an open but unattended tab do not
+ * count. Activity is compared between samples, so it is known to the precision of the sample interval. Closing a UI
+ * removes it from its session, which detaches its views and their listeners. The views
+ * are measured under the session lock, so the walk never sees a half applied change. A session busy with a request is
+ * left for the next sample instead of making the request wait, and the walk is capped in objects to keep the lock
+ * short. Singleton beans are shared by all sessions and never counted, beans of narrower scopes are.
+ */
+@Component
+public class SessionFootprintMonitor implements VaadinServiceInitListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionFootprintMonitor.class);
+    private static final String UI_REMAINDER = "UI";
+    private static final List<String> SHARED_PACKAGES = List.of("org.springframework.", "io.micrometer.", "org.slf4j.", "ch.qos.logback.",
+            "org.apache.", "jakarta.servlet.");
+    // Both lead up the state tree, away from the part being measured.
+    private static final Set<Field> SKIPPED_FIELDS = Set.of(
+            ReflectionUtils.findField(StateNode.class, "parent"),
+            ReflectionUtils.findField(StateNode.class, "owner"));
+    private final SessionConfig sessionConfig;
+    private final ThreadPoolTaskExecutor backgroundExecutor;
+    private final ThreadPoolTaskScheduler backgroundScheduler;
+    private final MeterRegistry meterRegistry;
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final ClassValue<Boolean> sharedTypes = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return SHARED_PACKAGES.stream().anyMatch(type.getName()::startsWith)
+                    || getSingletonBeanTypes().contains(ClassUtils.getUserClass(type));
+        }
+    };
+    private volatile Set<Class<?>> singletonBeanTypes;
+    private final Map<VaadinSession, SessionActivity> sessions = new ConcurrentHashMap<>();
+    private final DistributionSummary sessionFootprint;
+    private final Counter closedUis;
+
+    public SessionFootprintMonitor(SessionConfig sessionConfig, ThreadPoolTaskExecutor backgroundExecutor, ThreadPoolTaskScheduler backgroundScheduler,
+                                   MeterRegistry meterRegistry, ConfigurableListableBeanFactory beanFactory) {
+        this.sessionConfig = sessionConfig;
+        this.backgroundExecutor = backgroundExecutor;
+        this.backgroundScheduler = backgroundScheduler;
+        this.meterRegistry = meterRegistry;
+        this.beanFactory = beanFactory;
+        this.sessionFootprint = DistributionSummary.builder("session.footprint")
+                .description("Estimated heap held by one Vaadin session")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.closedUis = Counter.builder("session.budget.closed.uis")
+                .description("Idle UIs closed to keep sessions within their memory budget")
+                .register(meterRegistry);
+        Gauge.builder("session.footprint.total", sessions, activities -> activities.values().stream().mapToLong(SessionActivity::getFootprint).sum())
+                .description("Estimated heap held by all Vaadin sessions at their last sample")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void scheduleSampling() {
+        Duration sampleInterval = sessionConfig.getFootprintSampleInterval();
+        backgroundScheduler.scheduleWithFixedDelay(() -> BackgroundTasks.execute(this::sampleSessions, backgroundExecutor, "session footprint sampling"), Instant.now().plus(sampleInterval), sampleInterval);
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addSessionInitListener(sessionInit -> sessions.put(sessionInit.getSession(), new SessionActivity()));
+        event.getSource().addSessionDestroyListener(sessionDestroy -> sessions.remove(sessionDestroy.getSession()));
+    }
+
+    private void sampleSessions() {
+        sessions.forEach((session, activity) -> {
+            if (!session.getLockInstance().tryLock()) {
+                LOGGER.debug("Session is busy, sampling it next time.");
+                return;
+            }
+            try {
+                sample(session, activity);
+            } finally {
+                session.unlock();
+            }
+        });
+    }
+
+    private void sample(VaadinSession session, SessionActivity activity) {
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(this::isShared, SKIPPED_FIELDS::contains,
+                sessionConfig.getFootprintMaxObjects());
+        Map<UI, Long> uiFootprints = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        activity.retain(session.getUIs().stream().map(UI::getUIId).collect(Collectors.toSet()));
+        for (UI ui : session.getUIs()) {
+            activity.update(ui, now);
+            long uiBytes = 0;
+            for (HasElement target : ui.getInternals().getActiveRouterTargetsChain()) {
+                long viewBytes = estimator.estimate(target);
+                viewFootprint(ClassUtils.getUserClass(target).getSimpleName()).record(viewBytes);
+                uiBytes += viewBytes;
+            }
+            long remainderBytes = estimator.estimate(ui);
+            viewFootprint(UI_REMAINDER).record(remainderBytes);
+            uiFootprints.put(ui, uiBytes + remainderBytes);
+        }
+        long sessionBytes = uiFootprints.values().stream().mapToLong(Long::longValue).sum() + estimator.estimate(session);
+        if (estimator.isTruncated()) {
+            LOGGER.warn("Stopped measuring session after " + sessionConfig.getFootprintMaxObjects() + " objects, its footprint is underestimated.");
+        }
+        sessionFootprint.record(sessionBytes);
+        activity.setFootprint(sessionBytes);
+        enforceBudget(session, activity, uiFootprints, sessionBytes);
+    }
+
+    private void enforceBudget(VaadinSession session, SessionActivity activity, Map<UI, Long> uiFootprints, long sessionBytes) {
+        long budget = sessionConfig.getMemoryBudget().toBytes();
+        if (sessionBytes <= budget) {
+            return;
+        }
+        long idleSince = System.currentTimeMillis() - sessionConfig.getIdleUiTimeout().toMillis();
+        List<UI> idleUis = uiFootprints.keySet().stream()
+                .filter(ui -> activity.getLastUsed(ui.getUIId()) < idleSince)
+                .sorted(Comparator.comparingLong(ui -> activity.getLastUsed(ui.getUIId())))
+                .toList();
+        long remainingBytes = sessionBytes;
+        for (UI ui : idleUis) {
+            if (remainingBytes <= budget) {
+                break;
+            }
+            int uiId = ui.getUIId();
+            remainingBytes -= uiFootprints.get(ui);
+            ui.close();
+            session.removeUI(ui);
+            activity.forget(uiId);
+            closedUis.increment();
+            LOGGER.info("Closed idle UI: " + uiId + " of " + uiFootprints.get(ui) + " bytes, session is over its budget of " + budget + " bytes.");
+        }
+        activity.setFootprint(remainingBytes);
+        if (remainingBytes > budget) {
+            LOGGER.warn("Session holds about " + remainingBytes + " bytes, over its budget of " + budget + " bytes, with no idle UI left to close.");
+        }
+    }
+
+    private DistributionSummary viewFootprint(String view) {
+        return DistributionSummary.builder("session.view.footprint")
+                .description("Estimated heap held by one view of a UI")
+                .baseUnit("bytes")
+                .tag("view", view)
+                .register(meterRegistry);
+    }
+
+    private boolean isShared(Object object) {
+        return object instanceof Class<?> || object instanceof ClassLoader || object instanceof Thread || object instanceof Enum<?>
+                || object instanceof UI || object instanceof VaadinSession || object instanceof VaadinService || object instanceof VaadinContext
+                || object instanceof DeploymentConfiguration || object instanceof Router
+                || sharedTypes.get(object.getClass());
+    }
+
+    private Set<Class<?>> getSingletonBeanTypes() {
+        Set<Class<?>> types = singletonBeanTypes;
+        if (types == null) {
+            Set<Class<?>> singletons = new HashSet<>();
+            Set<Class<?>> scoped = new HashSet<>();
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                Class<?> type = beanFactory.getType(name, false);
+                if (type != null) {
+                    (beanFactory.getMergedBeanDefinition(name).isSingleton() ? singletons : scoped).add(ClassUtils.getUserClass(type));
+                }
+            }
+            // A scoped proxy is a singleton of the same type as its session or UI scoped target, the target decides.
+            singletons.removeAll(scoped);
+            types = Set.copyOf(singletons);
+            singletonBeanTypes = types;
+        }
+        return types;
+    }
+
+    private static class SessionActivity {
+        private final Map<Integer, UiActivity> uis = new ConcurrentHashMap<>();
+        private volatile long footprint;
+
+        /**
+         * Must be called under the session lock. The id of the last processed client message only moves on events sent
+         * by the user's interaction, a UI first seen counts as used at that moment.
+         */
+        void update(UI ui, long now) {
+            int messageId = ui.getInternals().getLastProcessedClientToServerId();
+            UiActivity previous = uis.get(ui.getUIId());
+            if (previous == null || previous.messageId() != messageId) {
+                uis.put(ui.getUIId(), new UiActivity(messageId, now));
+            }
+        }
+
+        long getLastUsed(int uiId) {
+            UiActivity uiActivity = uis.get(uiId);
+            return uiActivity == null ? System.currentTimeMillis() : uiActivity.lastUsed();
+        }
+
+        void retain(Set<Integer> uiIds) {
+            uis.keySet().retainAll(uiIds);
+        }
+
+        void forget(int uiId) {
+            uis.remove(uiId);
+        }
+
+        long getFootprint() {
+            return footprint;
+        }
+
+        void setFootprint(long footprint) {
+            this.footprint = footprint;
+        }
+
+        private record UiActivity(int messageId, long lastUsed) {
+        }
+    }
+}
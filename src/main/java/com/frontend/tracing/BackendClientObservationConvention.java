@@ -0,0 +1,20 @@
+package com.frontend.tracing;
+
+import com.frontend.metrics.BackendOperation;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+
+/**
+ * Names backend call spans after the client operation that made them instead of just the HTTP method.
+ */
+public class BackendClientObservationConvention extends DefaultClientRequestObservationConvention {
+
+    @Override
+    public String getContextualName(ClientRequestObservationContext context) {
+        BackendOperation operation = BackendOperation.current();
+        if (operation == BackendOperation.UNKNOWN) {
+            return super.getContextualName(context);
+        }
+        return operation.client() + "." + operation.operation();
+    }
+}
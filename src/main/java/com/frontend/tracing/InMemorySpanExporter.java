@@ -0,0 +1,61 @@
+package com.frontend.tracing;
+
+import com.frontend.config.TracingConfig;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recently finished spans in memory, so traces can be inspected and asserted on without a collector.
+ */
+@Component
+public class InMemorySpanExporter implements SpanExporter {
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+    private final int maxSpans;
+
+    public InMemorySpanExporter(TracingConfig tracingConfig) {
+        this.maxSpans = tracingConfig.getInMemoryMaxSpans();
+    }
+
+    public synchronized List<SpanData> getFinishedSpans() {
+        return List.copyOf(spans);
+    }
+
+    public synchronized List<SpanData> getTrace(String traceId) {
+        return spans.stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .toList();
+    }
+
+    public synchronized void reset() {
+        spans.clear();
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> finishedSpans) {
+        for (SpanData span : finishedSpans) {
+            if (spans.size() == maxSpans) {
+                spans.removeFirst();
+            }
+            spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,26 @@
+package com.frontend.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+public final class ObservationPropagation {
+
+    private ObservationPropagation() {
+    }
+
+    /**
+     * Wraps the task so it runs in the scope of the observation current on the submitting thread, keeping backend
+     * calls made in the background inside the trace of the UI event that started them.
+     */
+    public static Runnable propagate(ObservationRegistry observationRegistry, Runnable task) {
+        Observation parent = observationRegistry.getCurrentObservation();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            try (Observation.Scope scope = parent.openScope()) {
+                task.run();
+            }
+        };
+    }
+}
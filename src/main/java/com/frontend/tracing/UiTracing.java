@@ -0,0 +1,66 @@
+package com.frontend.tracing;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.data.selection.SelectionListener;
+import com.vaadin.flow.function.SerializableConsumer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Wraps Vaadin listeners and the callbacks they leave for {@link com.vaadin.flow.component.UI#access} in spans, so
+ * backend calls made while handling a UI event, and the UI updates once their results arrive, show up beneath it.
+ */
+@org.springframework.stereotype.Component
+@RequiredArgsConstructor
+public class UiTracing {
+    private static final String LISTENER_OBSERVATION = "ui.listener";
+    private static final String CALLBACK_OBSERVATION = "ui.callback";
+    private final ObservationRegistry observationRegistry;
+
+    public <E extends ComponentEvent<?>> ComponentEventListener<E> listener(String name, ComponentEventListener<E> listener) {
+        return event -> observe(name, () -> listener.onComponentEvent(event));
+    }
+
+    public <E extends HasValue.ValueChangeEvent<?>> HasValue.ValueChangeListener<E> valueChangeListener(String name, HasValue.ValueChangeListener<E> listener) {
+        return event -> observe(name, () -> listener.valueChanged(event));
+    }
+
+    public <C extends Component, T> SelectionListener<C, T> selectionListener(String name, SelectionListener<C, T> listener) {
+        return event -> observe(name, () -> listener.selectionChange(event));
+    }
+
+    /**
+     * Wraps a callback applying an asynchronous result to the UI. Its span is a child of the span current when the
+     * callback is created, usually the listener that started the background work, whichever thread it runs on later.
+     */
+    public <T> SerializableConsumer<T> callback(String name, SerializableConsumer<T> callback) {
+        Observation parent = observationRegistry.getCurrentObservation();
+        return value -> Observation.createNotStarted(CALLBACK_OBSERVATION, observationRegistry)
+                .parentObservation(parent)
+                .contextualName(name)
+                .lowCardinalityKeyValue("callback", name)
+                .observe(() -> callback.accept(value));
+    }
+
+    /**
+     * Wraps a callback pushing changes to the UI for as long as it is attached. Unlike {@link #callback} its spans do
+     * not belong to the event that subscribed it, each one starts beneath whatever span delivers the change.
+     */
+    public <T> SerializableConsumer<T> pushCallback(String name, SerializableConsumer<T> callback) {
+        return value -> Observation.createNotStarted(CALLBACK_OBSERVATION, observationRegistry)
+                .contextualName(name)
+                .lowCardinalityKeyValue("callback", name)
+                .observe(() -> callback.accept(value));
+    }
+
+    public void observe(String name, Runnable action) {
+        Observation.createNotStarted(LISTENER_OBSERVATION, observationRegistry)
+                .contextualName(name)
+                .lowCardinalityKeyValue("listener", name)
+                .observe(action);
+    }
+}
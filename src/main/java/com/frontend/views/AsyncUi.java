@@ -0,0 +1,53 @@
+package com.frontend.views;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.function.SerializableConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+public final class AsyncUi {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncUi.class);
+
+    private AsyncUi() {
+    }
+
+    /**
+     * Applies the result of the given future to the current UI. Results that are already available are applied right
+     * away, the others are pushed to the client through {@link UI#access} once they arrive.
+     */
+    public static <T> void whenComplete(CompletableFuture<T> future, SerializableConsumer<T> action) {
+        whenComplete(future, action, throwable -> {
+        });
+    }
+
+    /**
+     * Same as {@link #whenComplete(CompletableFuture, SerializableConsumer)}, failures are handed to the given handler
+     * on the UI as well.
+     */
+    public static <T> void whenComplete(CompletableFuture<T> future, SerializableConsumer<T> action, SerializableConsumer<Throwable> onError) {
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            action.accept(future.join());
+            return;
+        }
+        UI ui = UI.getCurrent();
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error(throwable.getMessage(), throwable);
+            }
+            try {
+                ui.access(() -> {
+                    if (throwable != null) {
+                        onError.accept(throwable);
+                    } else {
+                        action.accept(result);
+                    }
+                });
+            } catch (UIDetachedException e) {
+                LOGGER.info("UI detached before asynchronous result arrived.");
+            }
+        });
+    }
+}
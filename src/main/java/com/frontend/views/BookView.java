@@ -2,7 +2,10 @@ package com.frontend.views;
 
 import com.frontend.domainDto.response.*;
 import com.frontend.service.*;
+import com.frontend.tracing.UiTracing;
 import com.frontend.views.layout.MainLayout;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.accordion.Accordion;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -19,6 +22,7 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
 import org.slf4j.Logger;
@@ -26,7 +30,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -39,287 +42,383 @@ import java.util.*;
 public class BookView extends VerticalLayout {
     private final String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
     private static final Logger LOGGER = LoggerFactory.getLogger(BookView.class);
+    private static final String DATE_HELPER_TEXT = "Service date must be within " + AvailabilityCalendarService.BOOKING_DAYS_AHEAD + " days from today, remember we work Mondays - Saturdays only";
+    private static final String TIMES_UNAVAILABLE_TEXT = "Times are currently unavailable, choose the date again.";
     private final GarageService garageService;
-    private final CarService carService;
+    private final CarRepository carRepository;
     private final AvailableCarRepairService availableCarRepairService;
     private final BookingService bookingService;
     private final WeatherApiService weatherApiService;
+    private final AvailabilityCalendarService availabilityCalendarService;
+    private final VehicleRepairIndex vehicleRepairIndex;
+    private final UiTracing uiTracing;
     private GarageDto selectedGarage;
     private CarDto selectedCar;
     private Set<AvailableCarRepairDto> selectedServices;
     private LocalDate selectedDate;
     private LocalTime selectedStartTime;
     private int totalRepairTime;
-    private final Paragraph garageText = new Paragraph("Here you can book your services, first select garage by clicking it.");
-    private final Grid<GarageDto> garageGrid = new Grid<>(GarageDto.class, false);
-    private final VerticalLayout garageLayout = new VerticalLayout(garageText, garageGrid);
-    private final VerticalLayout garageWorkTimes = new VerticalLayout();
-    private final HorizontalLayout garageBigLayout = new HorizontalLayout();
-    private final Paragraph carText = new Paragraph("If you have already selected garage, now pick your car below:");
-    private final ComboBox<CarDto> carComboBox = new ComboBox<>("Select your car:");
-    private final Button carButton = new Button("Confirm");
-    private final HorizontalLayout carHorizontalComboBoxAndButtonLayout = new HorizontalLayout(carComboBox, carButton);
-    private final VerticalLayout carLayout = new VerticalLayout(carText, carHorizontalComboBoxAndButtonLayout);
-    private final Paragraph serviceText = new Paragraph("Below select services you wish to have:");
-    private final Grid<AvailableCarRepairDto> serviceGrid = new Grid<>(AvailableCarRepairDto.class, false);
-    private final Button confirmServiceButton = new Button("Confirm");
-    private final VerticalLayout serviceLayout = new VerticalLayout(serviceText, serviceGrid, confirmServiceButton);
-    private Accordion preparedBookingDetails = new Accordion();
-    private final Button backButton = new Button("Back");
-    private final VerticalLayout detailsLayout = new VerticalLayout();
-    private final Paragraph dateText = new Paragraph("Select available date:");
-    private final DatePicker datePicker = new DatePicker("Service date:");
-    private final VerticalLayout forecastLayout = new VerticalLayout();
-    private final HorizontalLayout dateWithForecast = new HorizontalLayout(datePicker, forecastLayout);
-    private final VerticalLayout dateLayout = new VerticalLayout(dateText, dateWithForecast);
-    private final Paragraph addBookText = new Paragraph("Select available time:");
-    private final ComboBox<LocalTime> timePicker = new ComboBox<>("Service time:");
-    private final Button addBookButton = new Button("Book service");
-    private final VerticalLayout bookLayout = new VerticalLayout(addBookText, timePicker, addBookButton);
-    private final H2 thankYouText = new H2("Your appointment has been successfully scheduled.");
-    private final Paragraph endText = new Paragraph("Thank you for using our car service booking system.");
-    private final Paragraph endText2 = new Paragraph("You can check your upcoming and previous appointments in the 'My Services' tab in the drawer or by clicking link below.");
-
-    public BookView(GarageService garageService, CarService carService, AvailableCarRepairService availableCarRepairService, BookingService bookingService, WeatherApiService weatherApiService) {
+    // Every step is built, and fetches its data, only once the step before it is completed and is dropped as soon as
+    // it is discarded, so an abandoned booking holds no more than the steps the user actually reached.
+    private GarageStep garageStep;
+    private CarStep carStep;
+    private ServiceStep serviceStep;
+    private ScheduleStep scheduleStep;
+
+    public BookView(GarageService garageService, CarRepository carRepository, AvailableCarRepairService availableCarRepairService, BookingService bookingService, WeatherApiService weatherApiService, AvailabilityCalendarService availabilityCalendarService, VehicleRepairIndex vehicleRepairIndex, UiTracing uiTracing) {
         this.garageService = garageService;
-        this.carService = carService;
+        this.carRepository = carRepository;
         this.availableCarRepairService = availableCarRepairService;
         this.bookingService = bookingService;
         this.weatherApiService = weatherApiService;
+        this.availabilityCalendarService = availabilityCalendarService;
+        this.vehicleRepairIndex = vehicleRepairIndex;
+        this.uiTracing = uiTracing;
 
-        setStartingVisibilityForAllLayouts();
         setSpacing(false);
+        garageStep = new GarageStep();
+        add(garageStep);
+    }
 
-        formGarageGrid();
-        formGarageLayouts();
-        addGarageGridListener();
+    private void onGarageSelected(GarageDto garage) {
+        selectedGarage = new GarageDto(garage);
+        LOGGER.info("Selected garage: " + selectedGarage);
+        garageStep.showWorkTimes(selectedGarage);
+        weatherApiService.prefetchForecast(weatherApiService.getCityFromAddress(selectedGarage.getAddress()));
+        if (carStep == null) {
+            carStep = new CarStep();
+            add(carStep);
+        }
+        if (serviceStep != null) {
+            serviceStep.setServices(getServicesForSelectedCar());
+        } else {
+            availableCarRepairService.prefetchAvailableServices(selectedGarage.getId());
+        }
+    }
 
-        formCarLayout();
-        addCarComboBoxListener();
+    private void onGarageCleared() {
+        garageStep.hideWorkTimes();
+        releaseServiceStep();
+        releaseCarStep();
+        selectedGarage = null;
+        selectedCar = null;
+    }
 
-        formServiceGrid();
-        formServiceLayout();
-        addServiceLayoutListeners();
+    private void onCarSelected(CarDto car) {
+        selectedCar = new CarDto(car);
+        LOGGER.info("Selected car: " + selectedCar);
+        if (serviceStep == null) {
+            serviceStep = new ServiceStep();
+            add(serviceStep);
+        }
+        List<AvailableCarRepairDto> serviceList = getServicesForSelectedCar();
+        serviceStep.setServices(serviceList);
+        LOGGER.info("Available services list for selected garage: " + serviceList);
+    }
 
-        formDetailsLayoutAndAddBackButtonListener();
+    private void onServicesConfirmed() {
+        if (selectedServices == null || selectedServices.isEmpty()) {
+            Notification.show("Please select at least 1 service to proceed.");
+            return;
+        }
+        LOGGER.info("Clicked button confirm with values:");
+        LOGGER.info("selected garage: " + selectedGarage);
+        LOGGER.info("selected car: " + selectedCar);
+        LOGGER.info("selected services id: " + selectedServices.stream().map(AvailableCarRepairDto::getId).toList());
+        garageStep.setVisible(false);
+        carStep.setVisible(false);
+        serviceStep.setVisible(false);
+        scheduleStep = new ScheduleStep();
+        add(scheduleStep);
+        scheduleStep.loadAvailabilityCalendar();
+    }
 
-        formForecastLayoutAndDatePicker();
-        addDatePickerListener();
+    private void onBack() {
+        LOGGER.info("Back button clicked.");
+        releaseScheduleStep();
+        garageStep.setVisible(true);
+        carStep.setVisible(true);
+        serviceStep.setVisible(true);
+    }
 
-        formBookLayoutElements();
-        addBookLayoutListeners();
+    private void onBooked() {
+        vehicleRepairIndex.markHasServices(selectedCar.getVehicleId());
+        removeAll();
+        garageStep = null;
+        carStep = null;
+        serviceStep = null;
+        scheduleStep = null;
 
+        H2 thankYouText = new H2("Your appointment has been successfully scheduled.");
+        Paragraph endText = new Paragraph("Thank you for using our car service booking system.");
         endText.addClassNames(LumoUtility.Margin.Top.LARGE, LumoUtility.Margin.Bottom.XSMALL);
+        Paragraph endText2 = new Paragraph("You can check your upcoming and previous appointments in the 'My Services' tab in the drawer or by clicking link below.");
         endText2.addClassName(LumoUtility.Margin.Top.XSMALL);
+        Anchor link = new Anchor("http://localhost:8081/services", "MyServices");
+        add(thankYouText, endText, endText2, link);
     }
 
-    private void setStartingVisibilityForAllLayouts() {
-        carLayout.setVisible(false);
-        serviceLayout.setVisible(false);
-        detailsLayout.setVisible(false);
-        dateLayout.setVisible(false);
-        bookLayout.setVisible(false);
+    private void onSelectedCarRemoved() {
+        releaseScheduleStep();
+        releaseServiceStep();
+        selectedCar = null;
+        garageStep.setVisible(true);
+        carStep.setVisible(true);
     }
 
-    private void formGarageGrid() {
-        garageGrid.addColumn(GarageDto::getName).setHeader("Garage name").setSortable(true);
-        garageGrid.addColumn(GarageDto::getAddress).setHeader("Address").setSortable(true);
-        garageGrid.setMaxHeight("250px");
-        garageGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+    private void releaseScheduleStep() {
+        if (scheduleStep != null) {
+            remove(scheduleStep);
+            scheduleStep = null;
+            selectedDate = null;
+            selectedStartTime = null;
+        }
+    }
 
-        List<GarageDto> garageDtoList = garageService.getGarages();
-        garageGrid.setItems(garageDtoList);
+    private void releaseCarStep() {
+        if (carStep != null) {
+            remove(carStep);
+            carStep = null;
+        }
     }
 
-    private void formGarageLayouts() {
-        garageLayout.setMaxWidth("1000px");
-        garageLayout.setWidthFull();
+    private void releaseServiceStep() {
+        if (serviceStep != null) {
+            remove(serviceStep);
+            serviceStep = null;
+            selectedServices = null;
+        }
+    }
 
-        garageBigLayout.setWidthFull();
-        garageBigLayout.setAlignItems(Alignment.END);
-        garageBigLayout.add(garageLayout, garageWorkTimes);
-        add(garageBigLayout);
+    private List<AvailableCarRepairDto> getServicesForSelectedCar() {
+        return availableCarRepairService.getAvailableServicesForMake(selectedGarage.getId(), selectedCar.getVehicleModel().vehicleMake().makeName());
     }
 
-    private void addGarageGridListener() {
-        garageGrid.addSelectionListener(selection -> {
-            Optional<GarageDto> optionalGarage = selection.getFirstSelectedItem();
-            if (optionalGarage.isPresent()) {
-                selectedGarage = new GarageDto(optionalGarage.get());
-                garageWorkTimes.setVisible(true);
-                setGarageWorkTimes(garageWorkTimes, selectedGarage);
-                LOGGER.info("Selected garage: " + selectedGarage);
-                carLayout.setVisible(true);
-                List<AvailableCarRepairDto> serviceList = availableCarRepairService.getAllAvailableServices(selectedGarage.getId());
-                if (selectedCar != null) {
-                    serviceList.forEach(service -> {
-                        setMultipliedCostForPremiumMakes(service);
-                        serviceGrid.setItems(serviceList);
-                    });
+    private class GarageStep extends HorizontalLayout {
+        private final VerticalLayout garageWorkTimes = new VerticalLayout();
+
+        GarageStep() {
+            Paragraph garageText = new Paragraph("Here you can book your services, first select garage by clicking it.");
+            Grid<GarageDto> garageGrid = new Grid<>(GarageDto.class, false);
+            garageGrid.addColumn(GarageDto::getName).setHeader("Garage name").setSortable(true);
+            garageGrid.addColumn(GarageDto::getAddress).setHeader("Address").setSortable(true);
+            garageGrid.setMaxHeight("250px");
+            garageGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+            garageGrid.setItems(garageService.getGarages());
+            garageGrid.addSelectionListener(uiTracing.selectionListener("BookView.garageGrid", selection ->
+                    selection.getFirstSelectedItem().ifPresentOrElse(BookView.this::onGarageSelected, BookView.this::onGarageCleared)));
+
+            VerticalLayout garageLayout = new VerticalLayout(garageText, garageGrid);
+            garageLayout.setMaxWidth("1000px");
+            garageLayout.setWidthFull();
+            garageWorkTimes.setSpacing(false);
+
+            setWidthFull();
+            setAlignItems(Alignment.END);
+            add(garageLayout, garageWorkTimes);
+        }
+
+        void showWorkTimes(GarageDto garage) {
+            garageWorkTimes.removeAll();
+            Span span = new Span(garage.getName() + " opening hours:");
+            span.addClassNames(LumoUtility.FontWeight.BOLD);
+            garageWorkTimes.add(span);
+            for (GarageWorkTimeDto workTime : garage.getGarageWorkTimeDtoList()) {
+                if (!Objects.equals(workTime.getStartHour(), workTime.getEndHour())) {
+                    span = new Span(workTime.getDay().substring(0, 1).toUpperCase() + workTime.getDay().substring(1).toLowerCase() + "s: " +
+                            workTime.getStartHour().format(DateTimeFormatter.ofPattern("HH:mm")) +
+                            " till " +
+                            workTime.getEndHour().format(DateTimeFormatter.ofPattern("HH:mm")));
+                    garageWorkTimes.add(span);
+                } else {
+                    span = new Span(workTime.getDay().substring(0, 1).toUpperCase() + workTime.getDay().substring(1).toLowerCase() + "s: closed.");
+                    garageWorkTimes.add(span);
                 }
-            } else {
-                carLayout.setVisible(false);
-                serviceLayout.setVisible(false);
-                garageWorkTimes.setVisible(false);
-                selectedGarage = null;
-                selectedCar = null;
-                carComboBox.setValue(null);
             }
-        });
-    }
+            garageWorkTimes.setVisible(true);
+        }
 
-    private void setMultipliedCostForPremiumMakes(AvailableCarRepairDto service) {
-        BigDecimal cost = service.getCost().setScale(0, RoundingMode.HALF_DOWN);
-        service.setCost(cost);
-        if (service.getPremiumMakes().toLowerCase().contains(selectedCar.getVehicleModel().vehicleMake().makeName().toLowerCase())) {
-            cost = service.getCost().multiply(service.getMakeMultiplier());
-            service.setCost(cost.setScale(0, RoundingMode.HALF_DOWN));
+        void hideWorkTimes() {
+            garageWorkTimes.setVisible(false);
         }
     }
 
-    private void formCarLayout() {
-        carText.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Margin.Bottom.NONE);
-        carButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-        carHorizontalComboBoxAndButtonLayout.setWidthFull();
-        carHorizontalComboBoxAndButtonLayout.setAlignItems(Alignment.BASELINE);
-
-        carComboBox.setItems(carService.getCarsForGivenUsername(currentUsername));
-        carComboBox.setItemLabelGenerator(carDto ->
-                carDto.getVehicleModel().vehicleMake().makeName() + " " +
-                        carDto.getVehicleModel().modelName() + " " +
-                        carDto.getVehicleModel().type() + " " +
-                        carDto.getYear() + " " +
-                        carDto.getEngineType());
-        carComboBox.setMaxWidth("500px");
-        carComboBox.setWidthFull();
-
-        add(carLayout);
-    }
+    private class CarStep extends VerticalLayout {
+        private final ComboBox<CarDto> carComboBox = new ComboBox<>("Select your car:");
+        private Registration carsRegistration;
+
+        CarStep() {
+            Paragraph carText = new Paragraph("If you have already selected garage, now pick your car below:");
+            carText.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Margin.Bottom.NONE);
+            carComboBox.setItems(carRepository.getCars(currentUsername));
+            carComboBox.setItemLabelGenerator(carDto ->
+                    carDto.getVehicleModel().vehicleMake().makeName() + " " +
+                            carDto.getVehicleModel().modelName() + " " +
+                            carDto.getVehicleModel().type() + " " +
+                            carDto.getYear() + " " +
+                            carDto.getEngineType());
+            carComboBox.setMaxWidth("500px");
+            carComboBox.setWidthFull();
+            carComboBox.addClientValidatedEventListener(event -> {
+                if (!carComboBox.isEmpty()) {
+                    onCarSelected(carComboBox.getValue());
+                }
+            });
+            //There is no listener assigned to the car button. Button is only added to prompt the user to unclick the combo box when choosing car. Without it, the car combo box listener won't trigger.
+            Button carButton = new Button("Confirm");
+            carButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+
+            HorizontalLayout carHorizontalComboBoxAndButtonLayout = new HorizontalLayout(carComboBox, carButton);
+            carHorizontalComboBoxAndButtonLayout.setWidthFull();
+            carHorizontalComboBoxAndButtonLayout.setAlignItems(Alignment.BASELINE);
+            add(carText, carHorizontalComboBoxAndButtonLayout);
+        }
 
-    private void addCarComboBoxListener() {
-        carComboBox.addClientValidatedEventListener(event -> {
-            if (!carComboBox.isEmpty()) {
-                selectedCar = new CarDto(carComboBox.getValue());
-                LOGGER.info("Selected car: " + selectedCar);
-                serviceLayout.setVisible(true);
-                List<AvailableCarRepairDto> serviceList = availableCarRepairService.getAllAvailableServices(selectedGarage.getId());
-                serviceList.forEach(this::setMultipliedCostForPremiumMakes);
-                serviceGrid.setItems(serviceList);
-                LOGGER.info("Available services list for selected garage: " + serviceList);
+        @Override
+        protected void onAttach(AttachEvent attachEvent) {
+            super.onAttach(attachEvent);
+            carsRegistration = carRepository.addCarsChangeListener(attachEvent.getUI().accessLater(uiTracing.pushCallback("BookView.carsChanged", this::onCarsChanged), null));
+        }
+
+        private void onCarsChanged(List<CarDto> cars) {
+            carComboBox.setItems(cars);
+            CarDto currentCar = selectedCar == null ? null : cars.stream()
+                    .filter(car -> car.getVehicleId().equals(selectedCar.getVehicleId()))
+                    .findFirst()
+                    .orElse(null);
+            if (currentCar != null) {
+                carComboBox.setValue(currentCar);
+            } else if (selectedCar != null) {
+                LOGGER.info("Selected car is no longer available: " + selectedCar);
+                onSelectedCarRemoved();
             }
-        });
-        //There is no listener assigned to the car button. Button is only added to prompt the user to unclick the combo box when choosing car. Without it, the car combo box listener won't trigger.
-    }
+        }
 
-    private void formServiceGrid() {
-        serviceGrid.setSelectionMode(Grid.SelectionMode.MULTI);
-        serviceGrid.addColumn(AvailableCarRepairDto::getName).setHeader("Service").setSortable(true);
-        serviceGrid.addColumn(AvailableCarRepairDto::getDescription).setHeader("Description");
-        serviceGrid.addColumn(AvailableCarRepairDto::getCost).setHeader("Cost [PLN]").setSortable(true);
-        serviceGrid.addColumn(AvailableCarRepairDto::getRepairTimeInMinutes).setHeader("Repair time [min]");
-        serviceGrid.setMaxHeight("250px");
-        serviceGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+        @Override
+        protected void onDetach(DetachEvent detachEvent) {
+            carsRegistration.remove();
+            super.onDetach(detachEvent);
+        }
     }
 
-    private void formServiceLayout() {
-        serviceText.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Margin.Bottom.NONE);
-
-        confirmServiceButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+    private class ServiceStep extends VerticalLayout {
+        private final Grid<AvailableCarRepairDto> serviceGrid = new Grid<>(AvailableCarRepairDto.class, false);
+
+        ServiceStep() {
+            Paragraph serviceText = new Paragraph("Below select services you wish to have:");
+            serviceText.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Margin.Bottom.NONE);
+
+            serviceGrid.setSelectionMode(Grid.SelectionMode.MULTI);
+            serviceGrid.addColumn(AvailableCarRepairDto::getName).setHeader("Service").setSortable(true);
+            serviceGrid.addColumn(AvailableCarRepairDto::getDescription).setHeader("Description");
+            serviceGrid.addColumn(AvailableCarRepairDto::getCost).setHeader("Cost [PLN]").setSortable(true);
+            serviceGrid.addColumn(AvailableCarRepairDto::getRepairTimeInMinutes).setHeader("Repair time [min]");
+            serviceGrid.setMaxHeight("250px");
+            serviceGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+            serviceGrid.addSelectionListener(uiTracing.selectionListener("BookView.serviceGrid", selection -> {
+                selectedServices = selection.getAllSelectedItems();
+                LOGGER.info("Selected services id: " + selectedServices.stream().map(AvailableCarRepairDto::getId).toList());
+            }));
+
+            Button confirmServiceButton = new Button("Confirm");
+            confirmServiceButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+            confirmServiceButton.addClickListener(uiTracing.listener("BookView.confirmService", event -> onServicesConfirmed()));
+
+            setMaxWidth("1000px");
+            setWidthFull();
+            add(serviceText, serviceGrid, confirmServiceButton);
+        }
 
-        serviceLayout.setMaxWidth("1000px");
-        serviceLayout.setWidthFull();
-        add(serviceLayout);
+        void setServices(List<AvailableCarRepairDto> services) {
+            serviceGrid.setItems(services);
+        }
     }
 
-    private void addServiceLayoutListeners() {
-        serviceGrid.addSelectionListener(selection -> {
-            selectedServices = selection.getAllSelectedItems();
-            LOGGER.info("Selected services id: " + selectedServices.stream().map(AvailableCarRepairDto::getId).toList());
-        });
-
-        confirmServiceButton.addClickListener(event -> {
-            if (selectedServices != null && selectedServices.size() != 0) {
-                LOGGER.info("Clicked button confirm with values:");
-                LOGGER.info("selected garage: " + selectedGarage);
-                LOGGER.info("selected car: " + selectedCar);
-                LOGGER.info("selected services id: " + selectedServices.stream().map(AvailableCarRepairDto::getId).toList());
-                garageBigLayout.setVisible(false);
-                carLayout.setVisible(false);
-                serviceLayout.setVisible(false);
-
-                Span garageDetails = new Span(selectedGarage.getName() + ", " + selectedGarage.getAddress());
-                preparedBookingDetails.add("Selected garage", garageDetails);
-                Span carDetails = new Span(selectedCar.getVehicleModel().vehicleMake().makeName() + ", " + selectedCar.getVehicleModel().modelName() + ", " + selectedCar.getVehicleModel().type() + ", " + selectedCar.getYear() + ", " + selectedCar.getEngineType());
-                preparedBookingDetails.add("Selected car", carDetails);
-                VerticalLayout serviceDetailsLayout = new VerticalLayout();
-                serviceDetailsLayout.setSpacing(false);
-                serviceDetailsLayout.setPadding(false);
-                BigDecimal totalCost = BigDecimal.ZERO;
-                totalRepairTime = 0;
-                for (AvailableCarRepairDto service : selectedServices) {
-                    Span serviceSpan = new Span(service.getName() + ", cost: " + service.getCost() + ", estimated service time: " + service.getRepairTimeInMinutes() + " minutes.");
-                    serviceDetailsLayout.add(serviceSpan);
-                    totalCost = totalCost.add(service.getCost());
-                    totalRepairTime += service.getRepairTimeInMinutes();
-                }
-                Span serviceTotal = new Span("Total cost for selected services: " + totalCost + ", estimated services time: " + totalRepairTime / 60 + "h " + totalRepairTime % 60 + "min.");
-                serviceTotal.addClassNames(LumoUtility.Margin.Top.MEDIUM, LumoUtility.FontWeight.BOLD);
-                serviceDetailsLayout.add(serviceTotal);
-                preparedBookingDetails.add("Selected services", serviceDetailsLayout);
-                detailsLayout.removeAll();
-                detailsLayout.add(preparedBookingDetails, backButton);
-                add(detailsLayout);
-                add(dateLayout);
-                add(bookLayout);
-                detailsLayout.setVisible(true);
-                dateLayout.setVisible(true);
-                bookLayout.setVisible(true);
-            } else {
-                Notification.show("Please select at least 1 service to proceed.");
+    private class ScheduleStep extends VerticalLayout {
+        private final DatePicker datePicker = new DatePicker("Service date:");
+        private final VerticalLayout forecastLayout = new VerticalLayout();
+        private final ComboBox<LocalTime> timePicker = new ComboBox<>("Service time:");
+
+        ScheduleStep() {
+            setPadding(false);
+            setSpacing(false);
+            add(createDetailsLayout(), createDateLayout(), createBookLayout());
+        }
+
+        private VerticalLayout createDetailsLayout() {
+            Accordion preparedBookingDetails = new Accordion();
+            Span garageDetails = new Span(selectedGarage.getName() + ", " + selectedGarage.getAddress());
+            preparedBookingDetails.add("Selected garage", garageDetails);
+            Span carDetails = new Span(selectedCar.getVehicleModel().vehicleMake().makeName() + ", " + selectedCar.getVehicleModel().modelName() + ", " + selectedCar.getVehicleModel().type() + ", " + selectedCar.getYear() + ", " + selectedCar.getEngineType());
+            preparedBookingDetails.add("Selected car", carDetails);
+            VerticalLayout serviceDetailsLayout = new VerticalLayout();
+            serviceDetailsLayout.setSpacing(false);
+            serviceDetailsLayout.setPadding(false);
+            BigDecimal totalCost = BigDecimal.ZERO;
+            totalRepairTime = 0;
+            for (AvailableCarRepairDto service : selectedServices) {
+                Span serviceSpan = new Span(service.getName() + ", cost: " + service.getCost() + ", estimated service time: " + service.getRepairTimeInMinutes() + " minutes.");
+                serviceDetailsLayout.add(serviceSpan);
+                totalCost = totalCost.add(service.getCost());
+                totalRepairTime += service.getRepairTimeInMinutes();
             }
-        });
-    }
+            Span serviceTotal = new Span("Total cost for selected services: " + totalCost + ", estimated services time: " + totalRepairTime / 60 + "h " + totalRepairTime % 60 + "min.");
+            serviceTotal.addClassNames(LumoUtility.Margin.Top.MEDIUM, LumoUtility.FontWeight.BOLD);
+            serviceDetailsLayout.add(serviceTotal);
+            preparedBookingDetails.add("Selected services", serviceDetailsLayout);
+
+            Button backButton = new Button("Back");
+            backButton.addClassNames(LumoUtility.Margin.Top.MEDIUM, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE);
+            backButton.addClickListener(uiTracing.listener("BookView.back", event -> onBack()));
+
+            VerticalLayout detailsLayout = new VerticalLayout(preparedBookingDetails, backButton);
+            detailsLayout.setMaxWidth("600px");
+            detailsLayout.setWidthFull();
+            return detailsLayout;
+        }
 
-    private void formDetailsLayoutAndAddBackButtonListener() {
-        backButton.addClassNames(LumoUtility.Margin.Top.MEDIUM, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE);
-        detailsLayout.setMaxWidth("600px");
-        detailsLayout.setWidthFull();
-
-        backButton.addClickListener(event -> {
-            LOGGER.info("Back button clicked.");
-            garageBigLayout.setVisible(true);
-            carLayout.setVisible(true);
-            serviceLayout.setVisible(true);
-            detailsLayout.setVisible(false);
-            preparedBookingDetails = new Accordion();
-            selectedDate = null;
-            selectedStartTime = null;
-            datePicker.setValue(null);
-            dateLayout.setVisible(false);
-            timePicker.setValue(null);
-            timePicker.setItems(new ArrayList<>());
-            bookLayout.setVisible(false);
-        });
-    }
+        private VerticalLayout createDateLayout() {
+            Paragraph dateText = new Paragraph("Select available date:");
+            dateText.addClassNames(LumoUtility.Margin.Top.MEDIUM, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE, LumoUtility.Padding.Top.NONE, LumoUtility.FontWeight.BOLD);
+            forecastLayout.setSpacing(false);
+            forecastLayout.addClassNames(LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE);
+
+            LocalDate now = LocalDate.now();
+            datePicker.setMin(now);
+            datePicker.setMax(now.plusDays(AvailabilityCalendarService.BOOKING_DAYS_AHEAD));
+            datePicker.setHelperText(DATE_HELPER_TEXT);
+            datePicker.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Padding.Top.NONE, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE);
+            datePicker.setMaxWidth("300px");
+            datePicker.setWidthFull();
+            datePicker.addValueChangeListener(uiTracing.valueChangeListener("BookView.datePicker", event -> onDateChanged()));
+
+            HorizontalLayout dateWithForecast = new HorizontalLayout(datePicker, forecastLayout);
+            dateWithForecast.setAlignItems(Alignment.BASELINE);
+            dateWithForecast.setWidthFull();
+            return new VerticalLayout(dateText, dateWithForecast);
+        }
 
-    private void formForecastLayoutAndDatePicker() {
-        dateWithForecast.setAlignItems(Alignment.BASELINE);
-        dateWithForecast.setWidthFull();
-        forecastLayout.setSpacing(false);
-        forecastLayout.addClassNames(LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE);
-        dateText.addClassNames(LumoUtility.Margin.Top.MEDIUM, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE, LumoUtility.Padding.Top.NONE, LumoUtility.FontWeight.BOLD);
-
-        LocalDate now = LocalDate.now();
-        datePicker.setMin(now);
-        datePicker.setMax(now.plusDays(60));
-        datePicker.setHelperText("Service date must be within 60 days from today, remember we work Mondays - Saturdays only");
-        datePicker.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Padding.Top.NONE, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE);
-        datePicker.setMaxWidth("300px");
-        datePicker.setWidthFull();
-    }
+        private VerticalLayout createBookLayout() {
+            Paragraph addBookText = new Paragraph("Select available time:");
+            addBookText.addClassNames(LumoUtility.Margin.Top.LARGE, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE, LumoUtility.FontWeight.BOLD);
+            timePicker.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Padding.Top.NONE);
+            timePicker.setMaxWidth("300px");
+            timePicker.setWidthFull();
+            timePicker.addValueChangeListener(uiTracing.valueChangeListener("BookView.timePicker", event -> {
+                selectedStartTime = timePicker.getValue();
+                LOGGER.info("Selected time: " + selectedStartTime);
+            }));
+
+            Button addBookButton = new Button("Book service");
+            addBookButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+            addBookButton.addClickListener(uiTracing.listener("BookView.addBook", event -> onBook()));
+
+            VerticalLayout bookLayout = new VerticalLayout(addBookText, timePicker, addBookButton);
+            bookLayout.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Padding.Top.NONE);
+            return bookLayout;
+        }
 
-    private void addDatePickerListener() {
-        datePicker.addValueChangeListener(event -> {
+        private void onDateChanged() {
             forecastLayout.removeAll();
             LocalDate tempDate = datePicker.getValue();
             String errorMessage = null;
@@ -335,79 +434,94 @@ public class BookView extends VerticalLayout {
             }
             if (!datePicker.isInvalid() && datePicker.getValue() != null) {
                 forecastLayout.removeAll();
+                if (isFullyBooked(datePicker.getValue())) {
+                    selectedDate = null;
+                    timePicker.setItems(new ArrayList<>());
+                    datePicker.setErrorMessage("This day is fully booked, choose another date.");
+                    datePicker.setInvalid(true);
+                    return;
+                }
                 selectedDate = datePicker.getValue();
-                if (!selectedDate.isAfter(LocalDate.now().plusDays(13))) {
-                    setWeather();
+                if (weatherApiService.isForecastAvailable(selectedDate)) {
+                    uiTracing.observe("BookView.setWeather", this::setWeather);
                 } else {
                     forecastLayout.add(new Span("Forecast is only available for 13 days ahead."));
                 }
                 LOGGER.info("Selected book date: " + selectedDate);
-                timePicker.setItems(bookingService.getAvailableBookingTimes(selectedDate, totalRepairTime, selectedGarage.getId()));
+                setAvailableBookingTimes();
             }
-        });
-    }
-
-    private void formBookLayoutElements() {
-        addBookText.addClassNames(LumoUtility.Margin.Top.LARGE, LumoUtility.Margin.Bottom.NONE, LumoUtility.Padding.Bottom.NONE, LumoUtility.FontWeight.BOLD);
-        timePicker.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Padding.Top.NONE);
-        timePicker.setMaxWidth("300px");
-        timePicker.setWidthFull();
-        bookLayout.addClassNames(LumoUtility.Margin.Top.NONE, LumoUtility.Padding.Top.NONE);
-        addBookButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-    }
-
-    private void addBookLayoutListeners() {
-        timePicker.addValueChangeListener(event -> {
-            selectedStartTime = timePicker.getValue();
-            LOGGER.info("Selected time: " + selectedStartTime);
-        });
+        }
 
-        addBookButton.addClickListener(event -> {
+        private void onBook() {
             LOGGER.info("Button save clicked.");
-            if (selectedDate != null && selectedStartTime != null) {
-                detailsLayout.setVisible(false);
-                dateLayout.setVisible(false);
-                bookLayout.setVisible(false);
-                List<Long> selectedServicesIdList = selectedServices.stream().map(AvailableCarRepairDto::getId).toList();
-                bookingService.saveBooking(selectedServicesIdList, selectedDate, selectedStartTime, selectedGarage.getId(), selectedCar.getVehicleId(), totalRepairTime);
-                Anchor link = new Anchor("http://localhost:8081/services", "MyServices");
-                add(thankYouText);
-                add(endText);
-                add(endText2);
-                add(link);
-            } else {
+            if (selectedDate == null || selectedStartTime == null) {
                 Notification.show("First select date and time.");
+                return;
             }
-        });
-    }
+            List<Long> selectedServicesIdList = selectedServices.stream().map(AvailableCarRepairDto::getId).toList();
+            boolean saved = bookingService.saveBooking(selectedServicesIdList, selectedDate, selectedStartTime, selectedGarage.getId(), selectedCar.getVehicleId(), totalRepairTime);
+            availabilityCalendarService.invalidate(selectedGarage.getId());
+            if (!saved) {
+                Notification.show("Booking could not be saved, please try again.");
+                setAvailableBookingTimes();
+                return;
+            }
+            onBooked();
+        }
 
+        void loadAvailabilityCalendar() {
+            Long garageId = selectedGarage.getId();
+            int repairDuration = totalRepairTime;
+            AsyncUi.whenComplete(availabilityCalendarService.getCalendar(garageId, repairDuration), uiTracing.callback("BookView.calendarLoaded", calendar -> {
+                if (scheduleStep != this) {
+                    return;
+                }
+                calendar.getFirstAvailableDate().ifPresent(firstAvailableDate -> {
+                    datePicker.setInitialPosition(firstAvailableDate);
+                    datePicker.setHelperText(DATE_HELPER_TEXT + ". First available date: " + firstAvailableDate.format(DateTimeFormatter.ofPattern("dd.MM.yyyy")));
+                });
+            }));
+        }
 
-    private void setGarageWorkTimes(VerticalLayout garageWorkTimes, GarageDto selectedGarage) {
-        garageWorkTimes.removeAll();
-        Span span = new Span(selectedGarage.getName() + " opening hours:");
-        span.addClassNames(LumoUtility.FontWeight.BOLD);
-        garageWorkTimes.add(span);
-        for (GarageWorkTimeDto workTime : selectedGarage.getGarageWorkTimeDtoList()) {
-            if (!Objects.equals(workTime.getStartHour(), workTime.getEndHour())) {
-                span = new Span(workTime.getDay().substring(0, 1).toUpperCase() + workTime.getDay().substring(1).toLowerCase() + "s: " +
-                        workTime.getStartHour().format(DateTimeFormatter.ofPattern("HH:mm")) +
-                        " till " +
-                        workTime.getEndHour().format(DateTimeFormatter.ofPattern("HH:mm")));
-                garageWorkTimes.add(span);
-            } else {
-                span = new Span(workTime.getDay().substring(0, 1).toUpperCase() + workTime.getDay().substring(1).toLowerCase() + "s: closed.");
-                garageWorkTimes.add(span);
-            }
+        private boolean isFullyBooked(LocalDate date) {
+            return availabilityCalendarService.getLoadedCalendar(selectedGarage.getId(), totalRepairTime)
+                    .map(calendar -> calendar.isFullyBooked(date))
+                    .orElse(false);
         }
-        garageWorkTimes.setSpacing(false);
-    }
 
-    private void setWeather() {
-        ForecastDto forecastDto = weatherApiService.getWeatherForCityAndDate(selectedGarage.getAddress().substring(0, selectedGarage.getAddress().indexOf(" ")), selectedDate);
-        Span span = new Span("Weather for city: " + selectedGarage.getAddress().substring(0, selectedGarage.getAddress().indexOf(" ")) + ", and date: " + selectedDate);
-        span.addClassNames(LumoUtility.FontWeight.BOLD);
-        Span span1 = new Span("Weather is: " + forecastDto.getSymbolPhrase().substring(0, 1).toUpperCase() + forecastDto.getSymbolPhrase().substring(1));
-        Span span2 = new Span("Max temp. " + forecastDto.getMaxTemp() + "\u00B0C, min temp. " + forecastDto.getMinTemp() + "\u00B0C. Wind up to " + forecastDto.getMaxWindSpeed() + "km/h.");
-        forecastLayout.add(span, span1, span2);
+        private void setAvailableBookingTimes() {
+            LocalDate bookingDate = selectedDate;
+            timePicker.setItems(new ArrayList<>());
+            timePicker.setHelperText(null);
+            AsyncUi.whenComplete(availabilityCalendarService.getAvailableTimes(selectedGarage.getId(), totalRepairTime, bookingDate), uiTracing.callback("BookView.availableTimesLoaded", availableTimes -> {
+                if (scheduleStep != this || !bookingDate.equals(selectedDate)) {
+                    return;
+                }
+                if (availableTimes == null) {
+                    timePicker.setHelperText(TIMES_UNAVAILABLE_TEXT);
+                } else {
+                    timePicker.setItems(availableTimes);
+                }
+            }));
+        }
+
+        private void setWeather() {
+            String city = weatherApiService.getCityFromAddress(selectedGarage.getAddress());
+            LocalDate forecastDate = selectedDate;
+            AsyncUi.whenComplete(weatherApiService.getWeatherForCityAndDate(city, forecastDate), uiTracing.callback("BookView.forecastLoaded", forecastDto -> {
+                if (scheduleStep != this || !forecastDate.equals(selectedDate)) {
+                    return;
+                }
+                Span span = new Span("Weather for city: " + city + ", and date: " + forecastDate);
+                span.addClassNames(LumoUtility.FontWeight.BOLD);
+                if (forecastDto == null) {
+                    forecastLayout.add(span, new Span("Forecast is currently unavailable."));
+                    return;
+                }
+                Span span1 = new Span("Weather is: " + forecastDto.getSymbolPhrase().substring(0, 1).toUpperCase() + forecastDto.getSymbolPhrase().substring(1));
+                Span span2 = new Span("Max temp. " + forecastDto.getMaxTemp() + "\u00B0C, min temp. " + forecastDto.getMinTemp() + "\u00B0C. Wind up to " + forecastDto.getMaxWindSpeed() + "km/h.");
+                forecastLayout.add(span, span1, span2);
+            }));
+        }
     }
 }
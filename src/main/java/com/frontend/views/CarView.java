@@ -1,10 +1,14 @@
 package com.frontend.views;
 
 import com.frontend.domainDto.request.CarCreateDto;
-import com.frontend.service.CarRepairService;
+import com.frontend.service.CarRepository;
 import com.frontend.service.CarService;
+import com.frontend.service.VehicleRepairIndex;
+import com.frontend.tracing.UiTracing;
 import com.frontend.views.layout.CarForm;
 import com.frontend.views.layout.MainLayout;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
@@ -13,6 +17,7 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 
 import jakarta.annotation.security.PermitAll;
@@ -24,14 +29,17 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @PageTitle("Cars | Garage Booking Service")
 public class CarView extends VerticalLayout {
     private final String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
-    private final CarService carService;
+    private final CarRepository carRepository;
+    private final UiTracing uiTracing;
     private final CarForm form;
     private final Grid<CarCreateDto> carGrid = new Grid<>(CarCreateDto.class);
     private final Button addNewCar = new Button("Add new car");
-    public CarView(CarService carService, CarRepairService carRepairService) {
-        this.carService = carService;
+    private Registration carsRegistration;
+    public CarView(CarService carService, CarRepository carRepository, VehicleRepairIndex vehicleRepairIndex, UiTracing uiTracing) {
+        this.carRepository = carRepository;
+        this.uiTracing = uiTracing;
 
-        form = new CarForm(carService, this, carRepairService);
+        form = new CarForm(carService, carRepository, this, vehicleRepairIndex, uiTracing);
         form.setCarCreateDto(null);
 
         addAndSetHeader();
@@ -76,6 +84,18 @@ public class CarView extends VerticalLayout {
         });
     }
     public void refresh() {
-        carGrid.setItems(carService.getMappedCarsForGivenUsername(currentUsername));
+        carGrid.setItems(carRepository.getMappedCars(currentUsername));
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        carsRegistration = carRepository.addCarsChangeListener(attachEvent.getUI().accessLater(uiTracing.pushCallback("CarView.carsChanged", cars -> refresh()), null));
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        carsRegistration.remove();
+        super.onDetach(detachEvent);
     }
 }
@@ -1,6 +1,8 @@
 package com.frontend.views;
 
 import com.frontend.domainDto.request.AuthenticationUserRequest;
+import com.frontend.security.AuthContextHolder;
+import com.frontend.security.AuthTokenService;
 import com.frontend.service.AuthenticationService;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.login.LoginI18n;
@@ -23,9 +25,11 @@ public class LoginView extends VerticalLayout implements BeforeEnterObserver {
 
     private final LoginOverlay loginOverlay = new LoginOverlay();
     private final AuthenticationService authenticationService;
+    private final AuthTokenService authTokenService;
 
-    public LoginView(AuthenticationService authenticationService) {
+    public LoginView(AuthenticationService authenticationService, AuthTokenService authTokenService) {
         this.authenticationService = authenticationService;
+        this.authTokenService = authTokenService;
         LoginI18n i18n = LoginI18n.createDefault();
         i18n.setAdditionalInformation("You can test the app by creating a new account using the registration form above. Additionally, you can explore the user account, which is preloaded with initial data to showcase the app's capabilities.");
         LoginI18n.Form i18nForm = i18n.getForm();
@@ -48,7 +52,7 @@ public class LoginView extends VerticalLayout implements BeforeEnterObserver {
                 LOGGER.error(e.getMessage());
             }
             if (jwtToken != null) {
-                VaadinSession.getCurrent().setAttribute("jwt", jwtToken);
+                AuthContextHolder.store(VaadinSession.getCurrent(), authTokenService.login(n.getUsername(), jwtToken));
             }
         });
         add(loginOverlay);
@@ -3,6 +3,7 @@ package com.frontend.views;
 import com.frontend.domainDto.request.RegisterUserDto;
 import com.frontend.service.AuthenticationService;
 import com.frontend.service.LoginRegisterService;
+import com.frontend.tracing.UiTracing;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -17,6 +18,7 @@ import com.vaadin.flow.component.textfield.PasswordField;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
@@ -27,8 +29,10 @@ import com.vaadin.flow.theme.lumo.LumoUtility;
 @PageTitle("Register | Garage Booking Service")
 @AnonymousAllowed
 public class RegisterView extends VerticalLayout {
+    private static final int USERNAME_CHECK_DELAY_MS = 400;
     private final LoginRegisterService loginRegisterService;
     private final AuthenticationService authenticationService;
+    private final UiTracing uiTracing;
     private final Binder<RegisterUserDto> binder = new BeanValidationBinder<>(RegisterUserDto.class);
     private final TextField firstName = new TextField("First name");
     private final TextField lastName = new TextField("Last name");
@@ -41,14 +45,16 @@ public class RegisterView extends VerticalLayout {
     private final VerticalLayout centerFormLayout = new VerticalLayout();
     private final FormLayout formLayout = new FormLayout();
 
-    public RegisterView(LoginRegisterService loginRegisterService, AuthenticationService authenticationService) {
+    public RegisterView(LoginRegisterService loginRegisterService, AuthenticationService authenticationService, UiTracing uiTracing) {
         this.loginRegisterService = loginRegisterService;
         this.authenticationService = authenticationService;
+        this.uiTracing = uiTracing;
 
         binder.bindInstanceFields(this);
 
         addRegisterHeader();
         addFormLayout();
+        addUsernameAvailabilityCheck();
         addCenterFormLayoutSettings();
 
         addButtonLayout();
@@ -76,6 +82,33 @@ public class RegisterView extends VerticalLayout {
         centerFormLayout.add(formLayout);
     }
 
+    private void addUsernameAvailabilityCheck() {
+        username.setValueChangeMode(ValueChangeMode.LAZY);
+        username.setValueChangeTimeout(USERNAME_CHECK_DELAY_MS);
+        username.addValueChangeListener(event -> {
+            String value = event.getValue();
+            if (value == null || value.isBlank()) {
+                username.setHelperText(null);
+                return;
+            }
+            AsyncUi.whenComplete(loginRegisterService.isRegisteredAsync(value), uiTracing.callback("RegisterView.usernameChecked", registered -> {
+                if (value.equals(username.getValue())) {
+                    showUsernameAvailability(registered);
+                }
+            }));
+        });
+    }
+
+    private void showUsernameAvailability(Boolean registered) {
+        if (registered == null) {
+            username.setHelperText("Could not check if username is available.");
+        } else if (registered) {
+            username.setHelperText("Username is already taken.");
+        } else {
+            username.setHelperText("Username is available.");
+        }
+    }
+
     private void addCenterFormLayoutSettings() {
         centerFormLayout.setAlignItems(Alignment.CENTER);
         centerFormLayout.setHorizontalComponentAlignment(Alignment.CENTER, formLayout);
@@ -100,13 +133,24 @@ public class RegisterView extends VerticalLayout {
         createUserButton.addClickListener(e -> {
             RegisterUserDto userToRegister = new RegisterUserDto();
             if (binder.writeBeanIfValid(userToRegister)) {
-                if (loginRegisterService.isRegistered(userToRegister.getUsername())) {
-                    Notification.show("Account with given username: " + userToRegister.getUsername() + " already exist. Change the username in order to register new account.");
-                } else {
-                    authenticationService.registerUser(userToRegister);
-                    Notification.show("Account created, you can log in now.");
-                    clearForm();
-                }
+                createUserButton.setEnabled(false);
+                AsyncUi.whenComplete(loginRegisterService.checkRegisteredAsync(userToRegister.getUsername()), uiTracing.callback("RegisterView.registeredChecked", registered -> {
+                    createUserButton.setEnabled(true);
+                    showUsernameAvailability(registered);
+                    if (registered == null) {
+                        Notification.show("Could not create account at the moment, please try again.");
+                    } else if (registered) {
+                        Notification.show("Account with given username: " + userToRegister.getUsername() + " already exist. Change the username in order to register new account.");
+                    } else {
+                        authenticationService.registerUser(userToRegister);
+                        loginRegisterService.markRegistered(userToRegister.getUsername());
+                        Notification.show("Account created, you can log in now.");
+                        clearForm();
+                    }
+                }), uiTracing.callback("RegisterView.registeredCheckFailed", throwable -> {
+                    createUserButton.setEnabled(true);
+                    Notification.show("Could not create account at the moment, please try again.");
+                }));
             } else {
                 Notification.show("All fields must be properly filled.");
             }
@@ -117,5 +161,6 @@ public class RegisterView extends VerticalLayout {
 
     private void clearForm() {
         binder.setBean(new RegisterUserDto());
+        username.setHelperText(null);
     }
 }
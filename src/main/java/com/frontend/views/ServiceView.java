@@ -1,11 +1,18 @@
 package com.frontend.views;
 
 import com.frontend.domainDto.response.CarRepairDto;
-import com.frontend.domainDto.response.ForecastDto;
+import com.frontend.service.AvailabilityCalendarService;
 import com.frontend.service.BookingService;
+import com.frontend.service.CarRepairDelta;
+import com.frontend.service.CarRepairPhase;
 import com.frontend.service.CarRepairService;
+import com.frontend.service.CarRepairStatusFeed;
+import com.frontend.service.VehicleRepairIndex;
 import com.frontend.service.WeatherApiService;
+import com.frontend.tracing.UiTracing;
 import com.frontend.views.layout.MainLayout;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
@@ -21,24 +28,32 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
 import com.vaadin.flow.component.tabs.TabsVariant;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @PermitAll
 @Route(value = "/services", layout = MainLayout.class)
@@ -48,15 +63,18 @@ public class ServiceView extends Div {
     private static final Logger LOGGER = LoggerFactory.getLogger(ServiceView.class);
     private final CarRepairService carRepairService;
     private final BookingService bookingService;
+    private final AvailabilityCalendarService availabilityCalendarService;
     private final WeatherApiService weatherApiService;
+    private final CarRepairStatusFeed carRepairStatusFeed;
+    private final VehicleRepairIndex vehicleRepairIndex;
+    private final UiTracing uiTracing;
     private CarRepairDto selectedCarService;
     private LocalDate selectedNewDate;
     private LocalTime selectedNewStartTime;
-    private List<CarRepairDto> carRepairDtoList;
     private final Grid<CarRepairDto> serviceDtoGrid = new Grid<>(CarRepairDto.class, false);
-    private List<CarRepairDto> incomingServiceList;
-    private List<CarRepairDto> inProgressServiceList;
-    private List<CarRepairDto> completedServiceList;
+    private final Map<CarRepairPhase, ListDataProvider<CarRepairDto>> serviceDataProviders = new EnumMap<>(CarRepairPhase.class);
+    private CallbackDataProvider<CarRepairDto, Void> completedServiceDataProvider;
+    private Registration carRepairStatusRegistration;
     private Tab incomingServiceTab;
     private Tab inProgressTab;
     private Tab completedServiceTab;
@@ -69,17 +87,20 @@ public class ServiceView extends Div {
     private final Button cancelButton = new Button("Cancel service");
     private HorizontalLayout horizontalButtonsLayout;
 
-    public ServiceView(CarRepairService carRepairService, BookingService bookingService, WeatherApiService weatherApiService) {
+    public ServiceView(CarRepairService carRepairService, BookingService bookingService, AvailabilityCalendarService availabilityCalendarService, WeatherApiService weatherApiService, CarRepairStatusFeed carRepairStatusFeed, VehicleRepairIndex vehicleRepairIndex, UiTracing uiTracing) {
         this.carRepairService = carRepairService;
         this.bookingService = bookingService;
+        this.availabilityCalendarService = availabilityCalendarService;
         this.weatherApiService = weatherApiService;
+        this.carRepairStatusFeed = carRepairStatusFeed;
+        this.vehicleRepairIndex = vehicleRepairIndex;
+        this.uiTracing = uiTracing;
 
         addTabsToLayout();
 
         formIncomingGrid();
 
-        fetchCarServicesFromDb();
-        filterCarServiceLists();
+        createServiceDataProviders();
 
         addGridLayoutToView();
 
@@ -107,7 +128,7 @@ public class ServiceView extends Div {
         serviceDtoGrid.addColumn(CarRepairDto::getName).setHeader("Service").setAutoWidth(true);
         serviceDtoGrid.addColumn(CarRepairDto::getCost).setHeader("Cost [PLN]").setAutoWidth(true).setFlexGrow(0);
         serviceDtoGrid.addColumn(n -> n.getBookingDto().getDate().atTime(n.getBookingDto().getStartHour()).format(DateTimeFormatter.ofPattern("HH:mm, dd-MM-yyyy")))
-                .setHeader("Start time, date").setAutoWidth(true).setSortable(true);
+                .setHeader("Start time, date").setAutoWidth(true).setSortable(true).setSortProperty("date");
         serviceDtoGrid.addColumn(n -> n.getBookingDto().getEndHour()).setHeader("Estimated end time").setAutoWidth(true).setFlexGrow(0).setKey("End");
         serviceDtoGrid.addColumn(CarRepairDto::getRepairTimeInMinutes).setHeader("Repair time [min]").setAutoWidth(true).setFlexGrow(0);
         serviceDtoGrid.addColumn(n -> n.getBookingDto().getGarageDto().getName()).setHeader("Garage").setAutoWidth(true);
@@ -119,40 +140,76 @@ public class ServiceView extends Div {
         serviceDtoGrid.setWidthFull();
     }
 
-    private void fetchCarServicesFromDb() {
-        carRepairDtoList = carRepairService.getCarServices(currentUsername);
+    private void createServiceDataProviders() {
+        for (CarRepairPhase phase : EnumSet.of(CarRepairPhase.INCOMING, CarRepairPhase.IN_PROGRESS)) {
+            serviceDataProviders.put(phase, new ListDataProvider<>(new ArrayList<>()) {
+                @Override
+                public Object getId(CarRepairDto item) {
+                    return item.getId();
+                }
+            });
+        }
+        completedServiceDataProvider = DataProvider.fromCallbacks(
+                query -> carRepairService.getCompletedCarServices(currentUsername, query.getPage(), query.getPageSize(), toSortParameter(query.getSortOrders())).stream().peek(vehicleRepairIndex::record),
+                query -> carRepairService.countCompletedCarServices(currentUsername));
+    }
+
+    private String toSortParameter(List<QuerySortOrder> sortOrders) {
+        return sortOrders.stream()
+                .findFirst()
+                .map(order -> order.getSorted() + "," + (order.getDirection() == SortDirection.ASCENDING ? "asc" : "desc"))
+                .orElse("date,desc");
     }
 
-    private void filterCarServiceLists() {
-        incomingServiceList = carRepairDtoList.stream()
-                .peek(n -> {
-                    BigDecimal cost = n.getCost().setScale(0, RoundingMode.HALF_DOWN);
-                    n.setCost(cost);
-                })
-                .filter(n -> n.getBookingDto().getDate().atTime(n.getBookingDto().getStartHour()).isAfter(LocalDateTime.now()))
-                .toList();
-
-        inProgressServiceList = carRepairDtoList.stream()
-                .peek(n -> {
-                    BigDecimal cost = n.getCost().setScale(0, RoundingMode.HALF_DOWN);
-                    n.setCost(cost);
-                })
-                .filter(n -> n.getBookingDto().getDate().atTime(n.getBookingDto().getStartHour()).isBefore(LocalDateTime.now())
-                        && n.getBookingDto().getDate().atTime(n.getBookingDto().getEndHour()).isAfter(LocalDateTime.now()))
-                .toList();
-
-        completedServiceList = carRepairDtoList.stream()
-                .peek(n -> {
-                    BigDecimal cost = n.getCost().setScale(0, RoundingMode.HALF_DOWN);
-                    n.setCost(cost);
-                })
-                .filter(n -> n.getBookingDto().getDate().atTime(n.getBookingDto().getEndHour()).isBefore(LocalDateTime.now()))
-                .toList();
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        serviceDataProviders.values().forEach(dataProvider -> {
+            dataProvider.getItems().clear();
+            dataProvider.refreshAll();
+        });
+        carRepairStatusRegistration = carRepairStatusFeed.subscribe(currentUsername, attachEvent.getUI().accessLater(uiTracing.pushCallback("ServiceView.carServicesChanged", this::applyCarServiceChanges), null));
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        carRepairStatusRegistration.remove();
+        super.onDetach(detachEvent);
+    }
+
+    private void applyCarServiceChanges(List<CarRepairDelta> deltas) {
+        vehicleRepairIndex.apply(deltas);
+        Set<CarRepairPhase> changedPhases = EnumSet.noneOf(CarRepairPhase.class);
+        for (CarRepairDelta delta : deltas) {
+            serviceDataProviders.forEach((phase, dataProvider) -> {
+                if (dataProvider.getItems().removeIf(carRepair -> carRepair.getId().equals(delta.carRepairId()))) {
+                    changedPhases.add(phase);
+                }
+            });
+            if (!delta.isRemoved()) {
+                if (delta.phase() != CarRepairPhase.COMPLETED) {
+                    serviceDataProviders.get(delta.phase()).getItems().add(delta.carRepair());
+                }
+                changedPhases.add(delta.phase());
+            }
+            if (selectedCarService != null && selectedCarService.getId().equals(delta.carRepairId())) {
+                if (delta.isRemoved() || delta.phase() != CarRepairPhase.INCOMING) {
+                    serviceDtoGrid.deselectAll();
+                } else {
+                    selectedCarService = delta.carRepair();
+                }
+            }
+        }
+        if (changedPhases.remove(CarRepairPhase.COMPLETED)) {
+            completedServiceDataProvider.refreshAll();
+        }
+        changedPhases.forEach(phase -> serviceDataProviders.get(phase).refreshAll());
+        LOGGER.info("Applied " + deltas.size() + " car service changes.");
     }
 
     private void setElementsVisible(Tab selectedTab) {
         if (selectedTab.equals(incomingServiceTab)) {
-            serviceDtoGrid.setItems(incomingServiceList);
+            serviceDtoGrid.setItems(serviceDataProviders.get(CarRepairPhase.INCOMING));
 
             Grid.Column<CarRepairDto> column = serviceDtoGrid.getColumnByKey("End");
             column.setHeader("Estimated end time");
@@ -166,7 +223,7 @@ public class ServiceView extends Div {
             horizontalButtonsLayout.setVisible(true);
             horizontalButtonsLayout.setEnabled(false);
         } else if (selectedTab.equals(inProgressTab)) {
-            serviceDtoGrid.setItems(inProgressServiceList);
+            serviceDtoGrid.setItems(serviceDataProviders.get(CarRepairPhase.IN_PROGRESS));
 
             Grid.Column<CarRepairDto> column = serviceDtoGrid.getColumnByKey("End");
             column.setHeader("Estimated end time");
@@ -176,7 +233,7 @@ public class ServiceView extends Div {
             horizontalPickersLayout.setVisible(false);
             horizontalButtonsLayout.setVisible(false);
         } else if (selectedTab.equals(completedServiceTab)) {
-            serviceDtoGrid.setItems(completedServiceList);
+            serviceDtoGrid.setItems(completedServiceDataProvider);
 
             Grid.Column<CarRepairDto> column = serviceDtoGrid.getColumnByKey("End");
             column.setHeader("End time");
@@ -207,7 +264,7 @@ public class ServiceView extends Div {
     }
 
     private void addListenerToDatePicker() {
-        datePicker.addValueChangeListener(event -> {
+        datePicker.addValueChangeListener(uiTracing.valueChangeListener("ServiceView.datePicker", event -> {
             forecastLayout.removeAll();
             LocalDate tempDate = datePicker.getValue();
             String errorMessage = null;
@@ -223,36 +280,61 @@ public class ServiceView extends Div {
             }
             if (!datePicker.isInvalid() && datePicker.getValue() != null) {
                 selectedNewDate = datePicker.getValue();
-                if (!selectedNewDate.isAfter(LocalDate.now().plusDays(13))) {
-                    setWeather();
+                if (weatherApiService.isForecastAvailable(selectedNewDate)) {
+                    uiTracing.observe("ServiceView.setWeather", this::setWeather);
                 } else {
                     forecastLayout.add(new Span("Forecast is only available for 13 days ahead."));
                 }
                 LOGGER.info("Selected book date: " + selectedNewDate);
-                timePicker.setItems(bookingService.getAvailableBookingTimes(selectedNewDate, selectedCarService));
+                setAvailableBookingTimes();
             }
-        });
+        }));
+    }
+
+    private void setAvailableBookingTimes() {
+        LocalDate bookingDate = selectedNewDate;
+        timePicker.setItems(new ArrayList<>());
+        timePicker.setHelperText(null);
+        AsyncUi.whenComplete(bookingService.getAvailableBookingTimesAsync(bookingDate, selectedCarService), uiTracing.callback("ServiceView.availableTimesLoaded", availableTimes -> {
+            if (!bookingDate.equals(selectedNewDate)) {
+                return;
+            }
+            if (availableTimes == null) {
+                timePicker.setHelperText("Times are currently unavailable, choose the date again.");
+            } else {
+                timePicker.setItems(availableTimes);
+            }
+        }));
     }
 
     private void setWeather() {
-        String address = selectedCarService.getBookingDto().getGarageDto().getAddress();
-        ForecastDto forecastDto = weatherApiService.getWeatherForCityAndDate(address.substring(0, address.indexOf(" ")), selectedNewDate);
-        Span span = new Span("Weather for city: " + address.substring(0, address.indexOf(" ")) + ", and date: " + selectedNewDate);
-        Span span1 = new Span("Weather is: " + forecastDto.getSymbolPhrase().substring(0, 1).toUpperCase() + forecastDto.getSymbolPhrase().substring(1));
-        Span span2 = new Span("Max temp. " + forecastDto.getMaxTemp() + "\u00B0C, min temp. " + forecastDto.getMinTemp() + "\u00B0C. Wind up to " + forecastDto.getMaxWindSpeed() + "km/h.");
-        span.addClassNames(LumoUtility.FontWeight.BOLD);
-        forecastLayout.add(span, span1, span2);
+        String city = weatherApiService.getCityFromAddress(selectedCarService.getBookingDto().getGarageDto().getAddress());
+        LocalDate forecastDate = selectedNewDate;
+        AsyncUi.whenComplete(weatherApiService.getWeatherForCityAndDate(city, forecastDate), uiTracing.callback("ServiceView.forecastLoaded", forecastDto -> {
+            if (!forecastDate.equals(selectedNewDate)) {
+                return;
+            }
+            Span span = new Span("Weather for city: " + city + ", and date: " + forecastDate);
+            span.addClassNames(LumoUtility.FontWeight.BOLD);
+            if (forecastDto == null) {
+                forecastLayout.add(span, new Span("Forecast is currently unavailable."));
+                return;
+            }
+            Span span1 = new Span("Weather is: " + forecastDto.getSymbolPhrase().substring(0, 1).toUpperCase() + forecastDto.getSymbolPhrase().substring(1));
+            Span span2 = new Span("Max temp. " + forecastDto.getMaxTemp() + "\u00B0C, min temp. " + forecastDto.getMinTemp() + "\u00B0C. Wind up to " + forecastDto.getMaxWindSpeed() + "km/h.");
+            forecastLayout.add(span, span1, span2);
+        }));
     }
 
     private void addListenerToTimePicker() {
-        timePicker.addValueChangeListener(event -> {
+        timePicker.addValueChangeListener(uiTracing.valueChangeListener("ServiceView.timePicker", event -> {
             selectedNewStartTime = timePicker.getValue();
             LOGGER.info("Selected time: " + selectedNewStartTime);
-        });
+        }));
     }
 
     private void addGridLayoutToView() {
-        serviceDtoGrid.setItems(incomingServiceList);
+        serviceDtoGrid.setItems(serviceDataProviders.get(CarRepairPhase.INCOMING));
         VerticalLayout incomingLayout = new VerticalLayout(serviceDtoGrid);
         add(incomingLayout);
     }
@@ -268,12 +350,13 @@ public class ServiceView extends Div {
     }
 
     private void addListenersToGrid() {
-        serviceDtoGrid.addSelectionListener(selection -> {
+        serviceDtoGrid.addSelectionListener(uiTracing.selectionListener("ServiceView.serviceGrid", selection -> {
             if (tabs.getSelectedTab().equals(incomingServiceTab)) {
                 Optional<CarRepairDto> optionalCarServiceDto = selection.getFirstSelectedItem();
                 if (optionalCarServiceDto.isPresent()) {
                     selectedCarService = optionalCarServiceDto.get();
                     LOGGER.info("Selected CarService: " + selectedCarService.getName() + ", with car: " + selectedCarService.getCarDto().toString());
+                    weatherApiService.prefetchForecast(weatherApiService.getCityFromAddress(selectedCarService.getBookingDto().getGarageDto().getAddress()));
                     datePicker.setValue(null);
                     timePicker.setItems(new ArrayList<>());
                     horizontalPickersLayout.setEnabled(true);
@@ -292,33 +375,36 @@ public class ServiceView extends Div {
                     LOGGER.info("Unselected CarService.");
                 }
             }
-        });
+        }));
     }
 
     private void addListenersToButtons() {
-        cancelButton.addClickListener(event -> {
+        cancelButton.addClickListener(uiTracing.listener("ServiceView.cancel", event -> {
             if (LocalDateTime.now().plusHours(2).isBefore(selectedCarService.getBookingDto().getDate().atTime(selectedCarService.getBookingDto().getStartHour()))) {
-                carRepairService.cancelService(selectedCarService.getId());
+                if (!carRepairService.cancelService(selectedCarService.getId())) {
+                    Notification.show("Service could not be canceled, please try again.");
+                    return;
+                }
                 Notification.show("Service canceled");
-                fetchCarServicesFromDb();
-                filterCarServiceLists();
-                serviceDtoGrid.setItems(incomingServiceList);
+                carRepairStatusFeed.publishCancelled(currentUsername, selectedCarService.getId());
                 selectedCarService = null;
                 serviceDtoGrid.deselectAll();
             } else {
                 Notification.show("It is too late to cancel service, only possible 2hours before start time. Please contact directly with " + selectedCarService.getBookingDto().getGarageDto().getName());
                 LOGGER.info("Button cancel clicked, too late to cancel service.");
             }
-        });
+        }));
 
-        editButton.addClickListener(event -> {
+        editButton.addClickListener(uiTracing.listener("ServiceView.edit", event -> {
             if (LocalDateTime.now().plusHours(2).isBefore(selectedCarService.getBookingDto().getDate().atTime(selectedCarService.getBookingDto().getStartHour()))) {
                 if (selectedNewDate != null && selectedNewStartTime != null) {
-                    bookingService.updateBooking(selectedCarService.getBookingDto().getId(), selectedNewDate, selectedNewStartTime);
+                    if (!bookingService.updateBooking(selectedCarService.getBookingDto(), selectedNewDate, selectedNewStartTime)) {
+                        Notification.show("Service time could not be changed, please try again.");
+                        return;
+                    }
+                    availabilityCalendarService.invalidate(selectedCarService.getBookingDto().getGarageDto().getId());
                     Notification.show("Service time changed");
-                    fetchCarServicesFromDb();
-                    filterCarServiceLists();
-                    serviceDtoGrid.setItems(incomingServiceList);
+                    carRepairStatusFeed.publishRescheduled(currentUsername, selectedCarService.getBookingDto(), selectedNewDate, selectedNewStartTime);
                     selectedCarService = null;
                     serviceDtoGrid.deselectAll();
                 } else {
@@ -328,6 +414,6 @@ public class ServiceView extends Div {
                 Notification.show("It is too late to change service time, only possible 2hours before start time. Please contact directly with " + selectedCarService.getBookingDto().getGarageDto().getName());
                 LOGGER.info("Button edit clicked, too late to edit service time.");
             }
-        });
+        }));
     }
 }
@@ -3,6 +3,7 @@ package com.frontend.views;
 import com.frontend.domainDto.request.UpdateUserDto;
 import com.frontend.domainDto.response.UserDto;
 import com.frontend.service.UserService;
+import com.frontend.tracing.UiTracing;
 import com.frontend.views.layout.MainLayout;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -21,6 +22,7 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.format.DateTimeFormatter;
@@ -33,6 +35,7 @@ public class UserView extends VerticalLayout {
     private final Binder<UpdateUserDto> binder = new BeanValidationBinder<>(UpdateUserDto.class);
     private final String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
     private final UserService userService;
+    private final UiTracing uiTracing;
     private final UserDto userDto;
     private final TextField firstName = new TextField("First name");
     private final TextField lastName = new TextField("Last name");
@@ -45,8 +48,9 @@ public class UserView extends VerticalLayout {
     private final FormLayout formLayout = new FormLayout(username, firstName, lastName,  email, phoneNumber, currentPassword, newPassword, confirmPassword);
     private final Button editButton = new Button("Edit");
     private final Button clearButton = new Button("Clear");
-    public UserView(UserService userService) {
+    public UserView(UserService userService, UiTracing uiTracing) {
         this.userService = userService;
+        this.uiTracing = uiTracing;
         userDto = userService.getUser(currentUsername);
 
         bindAndValidatePasswordFields();
@@ -96,7 +100,7 @@ public class UserView extends VerticalLayout {
 
         binder.forField(currentPassword)
                 .withValidator(currentPasswordValidator)
-                .bind(UpdateUserDto::getPassword, UpdateUserDto::setPassword);
+                .bind(UpdateUserDto::getCurrentPassword, UpdateUserDto::setCurrentPassword);
 
         binder.forField(newPassword)
                 .withValidator(passwordValidator)
@@ -149,34 +153,38 @@ public class UserView extends VerticalLayout {
     }
 
     private void addButtonsListeners() {
-        editButton.addClickListener(event -> {
+        editButton.addClickListener(uiTracing.listener("UserView.edit", event -> {
             UpdateUserDto updateUserDto = new UpdateUserDto();
            if (binder.writeBeanIfValid(updateUserDto)) {
                LOGGER.info("User to update data: " + updateUserDto);
-                if (updateUserDto.getNewPassword() != null && !updateUserDto.getNewPassword().isEmpty()) {
-                    if (userService.isPasswordMatched(currentUsername, updateUserDto.getPassword())) {
-                        userService.updateUser(updateUserDto);
-                        Notification.show("Account updated, password changed.");
-                        UserDto newUserDto = userService.getUser(currentUsername);
-                        initValues(newUserDto);
-                    } else {
-                        Notification.show("Your current password is wrong.");
+                boolean passwordChanged = updateUserDto.getNewPassword() != null && !updateUserDto.getNewPassword().isEmpty();
+                editButton.setEnabled(false);
+                AsyncUi.whenComplete(userService.updateUser(updateUserDto), uiTracing.callback("UserView.userUpdated", updatedUserDto -> {
+                    editButton.setEnabled(true);
+                    if (updatedUserDto == null) {
+                        Notification.show("Could not update your account at the moment, please try again.");
+                        return;
                     }
-                } else {
-                    LOGGER.info("Is password empty: " + updateUserDto.getNewPassword().isEmpty());
-                    userService.updateUser(updateUserDto);
-                    Notification.show("Account updated.");
-                    UserDto newUserDto = userService.getUser(currentUsername);
-                    initValues(newUserDto);
-                }
+                    Notification.show(passwordChanged ? "Account updated, password changed." : "Account updated.");
+                    initValues(updatedUserDto);
+                }), uiTracing.callback("UserView.userUpdateFailed", this::showUpdateError));
            } else {
                Notification.show("Cannot edit, please correct fields.");
            }
-        });
-        clearButton.addClickListener(event -> {
+        }));
+        clearButton.addClickListener(uiTracing.listener("UserView.clear", event -> {
             UserDto newUserDto = userService.getUser(currentUsername);
             initValues(newUserDto);
-        });
+        }));
+    }
+
+    private void showUpdateError(Throwable throwable) {
+        editButton.setEnabled(true);
+        if (throwable.getCause() instanceof BadCredentialsException) {
+            Notification.show("Your current password is wrong.");
+        } else {
+            Notification.show("Could not update your account at the moment, please try again.");
+        }
     }
 
     private void addCreatedDate() {
@@ -1,9 +1,11 @@
 package com.frontend.views.layout;
 
 import com.frontend.domainDto.request.CarCreateDto;
-import com.frontend.domainDto.response.CarRepairDto;
-import com.frontend.service.CarRepairService;
+import com.frontend.service.CarRepository;
 import com.frontend.service.CarService;
+import com.frontend.service.VehicleRepairIndex;
+import com.frontend.tracing.UiTracing;
+import com.frontend.views.AsyncUi;
 import com.frontend.views.CarView;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -26,8 +28,10 @@ public class CarForm extends FormLayout {
     private static final Logger LOGGER = LoggerFactory.getLogger(CarForm.class);
     private final String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
     private final CarService carService;
+    private final CarRepository carRepository;
     private final CarView carView;
-    private final CarRepairService carRepairService;
+    private final VehicleRepairIndex vehicleRepairIndex;
+    private final UiTracing uiTracing;
     private List<Integer> carYears;
     private final ComboBox<Integer> year = new ComboBox<>("Year");
     private final ComboBox<String> make = new ComboBox<>("Make");
@@ -41,10 +45,12 @@ public class CarForm extends FormLayout {
     private final Binder<CarCreateDto> binder = new BeanValidationBinder<>(CarCreateDto.class);
     private CarCreateDto temporaryDto;
 
-    public CarForm(CarService carService, CarView carView, CarRepairService carRepairService) {
+    public CarForm(CarService carService, CarRepository carRepository, CarView carView, VehicleRepairIndex vehicleRepairIndex, UiTracing uiTracing) {
         this.carService = carService;
+        this.carRepository = carRepository;
         this.carView = carView;
-        this.carRepairService = carRepairService;
+        this.vehicleRepairIndex = vehicleRepairIndex;
+        this.uiTracing = uiTracing;
 
         binder.bindInstanceFields(this);
 
@@ -57,7 +63,6 @@ public class CarForm extends FormLayout {
 
     private void setYearsMakesTypesLists() {
         carYears = generateCarYears();
-        List<String> carMakeList = carService.getCarMakes();
         List<String> carTypeList =
                 List.of(
                         "SEDAN",
@@ -73,9 +78,9 @@ public class CarForm extends FormLayout {
                 List.of("DIESEL", "PETROL", "PETROL_AND_GAS", "HYBRID", "ELECTRIC");
 
         year.setItems(carYears);
-        make.setItems(carMakeList);
         type.setItems(carTypeList);
         engine.setItems(carEnginesList);
+        AsyncUi.whenComplete(carService.getCarMakes(), uiTracing.callback("CarForm.makesLoaded", carMakeList -> make.setItems(carMakeList)));
     }
 
     private List<Integer> generateCarYears() {
@@ -94,10 +99,10 @@ public class CarForm extends FormLayout {
     }
 
     private void addButtonsListeners() {
-        save.addClickListener(event -> save());
-        delete.addClickListener(event -> delete());
-        edit.addClickListener(event -> edit());
-        cancel.addClickListener(event -> cancel());
+        save.addClickListener(uiTracing.listener("CarForm.save", event -> save()));
+        delete.addClickListener(uiTracing.listener("CarForm.delete", event -> delete()));
+        edit.addClickListener(uiTracing.listener("CarForm.edit", event -> edit()));
+        cancel.addClickListener(uiTracing.listener("CarForm.cancel", event -> cancel()));
     }
 
     private void addBinderValueChangeListener() {
@@ -118,13 +123,24 @@ public class CarForm extends FormLayout {
     }
 
     private void setCarModels(int carYear, String carMake, String carType) {
-        List<String> modelList = carService.getCarModels(carMake, carType, carYear);
-        LOGGER.info("Car models set to: {}", modelList);
         temporaryDto = new CarCreateDto();
         temporaryDto.setYear(carYear);
         temporaryDto.setMake(carMake);
         temporaryDto.setType(carType);
-        model.setItems(modelList);
+        setModelItems(carMake);
+    }
+
+    private void setModelItems(String carMake) {
+        AsyncUi.whenComplete(carService.getCarModels(carMake), uiTracing.callback("CarForm.modelsLoaded", modelList -> {
+            if (Objects.equals(make.getValue(), carMake)) {
+                LOGGER.info("Car models set to: {}", modelList);
+                String selectedModel = model.getValue();
+                model.setItems(modelList);
+                if (selectedModel != null && modelList.contains(selectedModel)) {
+                    model.setValue(selectedModel);
+                }
+            }
+        }));
     }
 
     public void setCarCreateDto(CarCreateDto carCreateDto) {
@@ -145,10 +161,11 @@ public class CarForm extends FormLayout {
             year.setValue(carYears.get(0));
         } else {
             LOGGER.info("Getting car models with values: {}, {}, {}", carCreateDto.getMake(), carCreateDto.getType(), carCreateDto.getYear());
-            List<String> modelList = carService.getCarModels(carCreateDto.getMake(), carCreateDto.getType(), carCreateDto.getYear());
-            model.setItems(modelList);
             temporaryDto = new CarCreateDto(carCreateDto);
+            // The combo box refuses a value it has no items for, the car's own model stands in until all models arrive.
+            model.setItems(carCreateDto.getModel() == null ? List.of() : List.of(carCreateDto.getModel()));
             binder.setBean(new CarCreateDto(carCreateDto));
+            setModelItems(carCreateDto.getMake());
 
             save.setVisible(false);
             cancel.setVisible(true);
@@ -169,8 +186,10 @@ public class CarForm extends FormLayout {
     private void edit() {
         CarCreateDto carCreateDto = binder.getBean();
         if (binder.writeBeanIfValid(carCreateDto)) {
-            carService.updateCar(carCreateDto);
-            carView.refresh();
+            if (!carRepository.updateCar(carCreateDto)) {
+                Notification.show("Car could not be updated, please try again.");
+                return;
+            }
             setCarCreateDto(null);
             Notification.show("Car updated.");
         } else {
@@ -182,8 +201,10 @@ public class CarForm extends FormLayout {
     private void save() {
         CarCreateDto carCreateDto = binder.getBean();
         if (binder.writeBeanIfValid(carCreateDto)) {
-            carService.saveCar(carCreateDto, currentUsername);
-            carView.refresh();
+            if (!carRepository.saveCar(carCreateDto, currentUsername)) {
+                Notification.show("Car could not be added, please try again.");
+                return;
+            }
             setCarCreateDto(null);
             Notification.show("Car added.");
         } else {
@@ -194,11 +215,13 @@ public class CarForm extends FormLayout {
 
     private void delete() {
         CarCreateDto carCreateDto = binder.getBean();
-        List<CarRepairDto> serviceList = carRepairService.getCarServices(currentUsername).stream().filter(n -> Objects.equals(n.getCarDto().getVehicleId(), carCreateDto.getId())).toList();
-        if (serviceList.isEmpty()) {
-            carService.deleteCar(carCreateDto.getId());
+        if (!vehicleRepairIndex.hasConnectedServices(carCreateDto.getId())) {
             LOGGER.info("Button delete clicked with object: " + carCreateDto);
-            carView.refresh();
+            if (!carRepository.deleteCar(carCreateDto.getId())) {
+                Notification.show("Car could not be deleted, please try again.");
+                return;
+            }
+            vehicleRepairIndex.forget(carCreateDto.getId());
             setCarCreateDto(null);
             Notification.show("Car deleted.");
         } else {
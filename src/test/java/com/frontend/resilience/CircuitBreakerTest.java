@@ -0,0 +1,104 @@
+package com.frontend.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 4, 4, 50, Duration.ofMinutes(1), 2);
+
+        failures(circuitBreaker, 3);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 4, 4, 50, Duration.ofMinutes(1), 2);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        failures(circuitBreaker, 2);
+
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void forgetsCallsThatLeftTheSlidingWindow() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 4, 4, 50, Duration.ofMinutes(1), 2);
+
+        circuitBreaker.onFailure();
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onSuccess();
+        }
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void letsOnlyTrialCallsThroughOnceOpenDurationPassed() {
+        CircuitBreaker circuitBreaker = openCircuitBreaker(Duration.ZERO, 2);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void closesWhenAllTrialCallsSucceed() {
+        CircuitBreaker circuitBreaker = openCircuitBreaker(Duration.ZERO, 2);
+        circuitBreaker.tryAcquire();
+        circuitBreaker.tryAcquire();
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+        }
+    }
+
+    @Test
+    void opensAgainWhenTrialCallFails() throws InterruptedException {
+        CircuitBreaker circuitBreaker = openCircuitBreaker(Duration.ofMillis(100), 2);
+        Thread.sleep(150);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void givesBackTrialPermitOfIgnoredCall() {
+        CircuitBreaker circuitBreaker = openCircuitBreaker(Duration.ZERO, 1);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onIgnored();
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    private static CircuitBreaker openCircuitBreaker(Duration openDuration, int halfOpenCalls) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 4, 2, 50, openDuration, halfOpenCalls);
+        failures(circuitBreaker, 2);
+        return circuitBreaker;
+    }
+
+    private static void failures(CircuitBreaker circuitBreaker, int count) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.frontend.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    void startsWithFullBurst() {
+        RetryBudget retryBudget = new RetryBudget(0.25, 3);
+
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void earnsOneRetryPerCallsMatchingRatio() {
+        RetryBudget retryBudget = exhausted(new RetryBudget(0.25, 3));
+
+        for (int i = 0; i < 3; i++) {
+            retryBudget.deposit();
+        }
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+
+        for (int i = 0; i < 4; i++) {
+            retryBudget.deposit();
+        }
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void neverSavesMoreThanBurst() {
+        RetryBudget retryBudget = exhausted(new RetryBudget(0.25, 2));
+
+        for (int i = 0; i < 100; i++) {
+            retryBudget.deposit();
+        }
+
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+    }
+
+    private static RetryBudget exhausted(RetryBudget retryBudget) {
+        while (retryBudget.tryWithdraw()) {
+            // Spends the initial burst.
+        }
+        return retryBudget;
+    }
+}
@@ -0,0 +1,128 @@
+package com.frontend.service;
+
+import com.frontend.domainDto.response.BookingDto;
+import com.frontend.domainDto.response.CarRepairDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CarRepairStatusFeedTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+    private static final LocalDateTime NOW = TODAY.atTime(12, 0);
+
+    @Test
+    void firstPollTakesSnapshotOfActiveServicesOnly() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+
+        assertThat(feed.snapshot()).isNull();
+        assertThat(feed.isPollDue(Instant.MIN)).isTrue();
+        assertThat(feed.advance(NOW)).isEmpty();
+
+        List<CarRepairDelta> deltas = feed.update(List.of(
+                carRepair(1L, 10L, TODAY.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                carRepair(2L, 20L, TODAY, LocalTime.of(11, 0), LocalTime.of(13, 0)),
+                carRepair(3L, 30L, TODAY, LocalTime.of(8, 0), LocalTime.of(9, 0))), NOW);
+
+        assertThat(deltas).extracting(CarRepairDelta::carRepairId, CarRepairDelta::phase)
+                .containsExactly(tuple(1L, CarRepairPhase.INCOMING), tuple(2L, CarRepairPhase.IN_PROGRESS));
+        assertThat(feed.snapshot()).extracting(CarRepairDelta::carRepairId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void failedFirstPollStaysDueUntilSnapshotIsTaken() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+
+        assertThat(feed.startPoll()).isTrue();
+        assertThat(feed.startPoll()).isFalse();
+        assertThat(feed.isPollDue(Instant.MIN)).isFalse();
+        feed.finishPoll();
+
+        assertThat(feed.isPollDue(Instant.MIN)).isTrue();
+
+        feed.update(List.of(), NOW);
+
+        assertThat(feed.snapshot()).isEmpty();
+        assertThat(feed.isPollDue(Instant.MIN)).isFalse();
+    }
+
+    @Test
+    void serviceLeavingActivePageAfterItsEndIsDeliveredAsCompleted() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+        feed.update(List.of(carRepair(1L, 10L, TODAY, LocalTime.of(11, 0), LocalTime.of(13, 0))), NOW);
+
+        List<CarRepairDelta> deltas = feed.update(List.of(), TODAY.atTime(14, 0));
+
+        assertThat(deltas).extracting(CarRepairDelta::carRepairId, CarRepairDelta::phase)
+                .containsExactly(tuple(1L, CarRepairPhase.COMPLETED));
+        assertThat(deltas.get(0).isRemoved()).isFalse();
+        assertThat(feed.snapshot()).isEmpty();
+    }
+
+    @Test
+    void serviceLeavingActivePageBeforeItsEndIsDeliveredAsRemoved() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+        feed.update(List.of(
+                carRepair(1L, 10L, TODAY.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                carRepair(2L, 20L, TODAY.plusDays(2), LocalTime.of(9, 0), LocalTime.of(10, 0))), NOW);
+
+        List<CarRepairDelta> deltas = feed.update(List.of(carRepair(2L, 20L, TODAY.plusDays(2), LocalTime.of(9, 0), LocalTime.of(10, 0))), NOW);
+
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).carRepairId()).isEqualTo(1L);
+        assertThat(deltas.get(0).isRemoved()).isTrue();
+        assertThat(feed.snapshot()).extracting(CarRepairDelta::carRepairId).containsExactly(2L);
+    }
+
+    @Test
+    void advanceDeliversPhaseChangesAndDropsCompletedServices() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+        feed.update(List.of(carRepair(1L, 10L, TODAY, LocalTime.of(13, 0), LocalTime.of(14, 0))), NOW);
+
+        assertThat(feed.advance(TODAY.atTime(13, 30))).extracting(CarRepairDelta::phase).containsExactly(CarRepairPhase.IN_PROGRESS);
+        assertThat(feed.advance(TODAY.atTime(13, 45))).isEmpty();
+        assertThat(feed.advance(TODAY.atTime(14, 0))).extracting(CarRepairDelta::phase).containsExactly(CarRepairPhase.COMPLETED);
+        assertThat(feed.snapshot()).isEmpty();
+    }
+
+    @Test
+    void rescheduledServiceMovesBackToIncoming() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+        feed.update(List.of(
+                carRepair(1L, 10L, TODAY, LocalTime.of(11, 0), LocalTime.of(13, 0)),
+                carRepair(2L, 20L, TODAY, LocalTime.of(11, 30), LocalTime.of(12, 30))), NOW);
+
+        List<CarRepairDelta> deltas = feed.reschedule(10L, TODAY.plusDays(3), LocalTime.of(8, 0));
+
+        assertThat(deltas).hasSize(1);
+        CarRepairDelta delta = deltas.get(0);
+        assertThat(delta.carRepairId()).isEqualTo(1L);
+        assertThat(delta.phase()).isEqualTo(CarRepairPhase.INCOMING);
+        assertThat(delta.carRepair().getBookingDto().getDate()).isEqualTo(TODAY.plusDays(3));
+        assertThat(delta.carRepair().getBookingDto().getStartHour()).isEqualTo(LocalTime.of(8, 0));
+        assertThat(delta.carRepair().getBookingDto().getEndHour()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(feed.advance(NOW)).isEmpty();
+    }
+
+    @Test
+    void cancelledServiceIsRemovedOnce() {
+        CarRepairStatusFeed.UserFeed feed = new CarRepairStatusFeed.UserFeed();
+        feed.update(List.of(carRepair(1L, 10L, TODAY.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0))), NOW);
+
+        assertThat(feed.remove(1L)).extracting(CarRepairDelta::isRemoved).containsExactly(true);
+        assertThat(feed.remove(1L)).isEmpty();
+        assertThat(feed.update(List.of(), NOW)).isEmpty();
+    }
+
+    private static CarRepairDto carRepair(Long id, Long bookingId, LocalDate date, LocalTime startHour, LocalTime endHour) {
+        BookingDto booking = new BookingDto(bookingId, "ACTIVE", date, startHour, endHour, NOW.minusDays(7), BigDecimal.valueOf(100), List.of(id), null);
+        return new CarRepairDto(id, "Service " + id, "", BigDecimal.valueOf(99.5), 60, null, booking, "ACTIVE");
+    }
+}
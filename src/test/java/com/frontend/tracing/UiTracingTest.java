@@ -0,0 +1,125 @@
+package com.frontend.tracing;
+
+import com.frontend.config.TracingConfig;
+import com.vaadin.flow.function.SerializableConsumer;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class UiTracingTest {
+    private static final String GARAGES_URL = "http://localhost:8080/v1/garages";
+    private InMemorySpanExporter spanExporter;
+    private SdkTracerProvider tracerProvider;
+    private UiTracing uiTracing;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer backend;
+
+    @BeforeEach
+    void setUp() {
+        TracingConfig tracingConfig = new TracingConfig();
+        ReflectionTestUtils.setField(tracingConfig, "inMemoryMaxSpans", 100);
+        spanExporter = new InMemorySpanExporter(tracingConfig);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        ContextPropagators propagators = ContextPropagators.create(W3CTraceContextPropagator.getInstance());
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(otelTracer, currentTraceContext, event -> {
+        }, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        OtelPropagator propagator = new OtelPropagator(propagators, otelTracer);
+
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler.FirstMatchingCompositeObservationHandler(
+                new PropagatingSenderTracingObservationHandler<>(tracer, propagator),
+                new PropagatingReceiverTracingObservationHandler<>(tracer, propagator),
+                new DefaultTracingObservationHandler(tracer)));
+        uiTracing = new UiTracing(observationRegistry);
+        restTemplate = new RestTemplate();
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setObservationConvention(new BackendClientObservationConvention());
+        backend = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void backendCallOfListenerIsChildOfItsSpanAndCarriesItsTraceparent() {
+        AtomicReference<String> traceparent = new AtomicReference<>();
+        backend.expect(requestTo(GARAGES_URL))
+                .andExpect(request -> traceparent.set(request.getHeaders().getFirst("traceparent")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        uiTracing.observe("test.click", () -> restTemplate.getForObject(GARAGES_URL, String.class));
+
+        backend.verify();
+        SpanData uiSpan = span("test.click");
+        SpanData clientSpan = spanExporter.getFinishedSpans().stream()
+                .filter(span -> !span.getName().equals("test.click"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(clientSpan.getTraceId()).isEqualTo(uiSpan.getTraceId());
+        assertThat(clientSpan.getParentSpanId()).isEqualTo(uiSpan.getSpanId());
+        assertThat(traceparent.get()).isEqualTo("00-" + clientSpan.getTraceId() + "-" + clientSpan.getSpanId() + "-01");
+    }
+
+    @Test
+    void callbackRunLaterIsChildOfListenerThatCreatedIt() {
+        AtomicReference<SerializableConsumer<String>> callback = new AtomicReference<>();
+        uiTracing.observe("test.load", () -> callback.set(uiTracing.callback("test.loaded", result -> {
+        })));
+
+        callback.get().accept("result");
+
+        SpanData listenerSpan = span("test.load");
+        SpanData callbackSpan = span("test.loaded");
+        assertThat(callbackSpan.getTraceId()).isEqualTo(listenerSpan.getTraceId());
+        assertThat(callbackSpan.getParentSpanId()).isEqualTo(listenerSpan.getSpanId());
+    }
+
+    @Test
+    void pushCallbackStartsItsOwnTrace() {
+        AtomicReference<SerializableConsumer<String>> callback = new AtomicReference<>();
+        uiTracing.observe("test.attach", () -> callback.set(uiTracing.pushCallback("test.changed", change -> {
+        })));
+
+        callback.get().accept("change");
+
+        assertThat(span("test.changed").getTraceId()).isNotEqualTo(span("test.attach").getTraceId());
+    }
+
+    private SpanData span(String name) {
+        return spanExporter.getFinishedSpans().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}